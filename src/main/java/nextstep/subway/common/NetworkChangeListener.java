@@ -0,0 +1,10 @@
+package nextstep.subway.common;
+
+import nextstep.subway.line.domain.SectionDelta;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface NetworkChangeListener {
+    void onChange(long version, List<SectionDelta> deltas);
+}
@@ -0,0 +1,76 @@
+package nextstep.subway.common;
+
+import nextstep.subway.line.domain.SectionDelta;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class NetworkVersion {
+    private static final Logger log = LoggerFactory.getLogger(NetworkVersion.class);
+
+    private final AtomicLong version = new AtomicLong();
+    private final List<NetworkChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    public long current() {
+        return version.get();
+    }
+
+    public void addListener(NetworkChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 무엇이 바뀌었는지 알 수 없는 변경. 버전만 올라가므로 다음 조회에서 그래프를 전부 다시 만든다.
+     */
+    public void increase() {
+        afterCommit(this::increaseVersion);
+    }
+
+    /**
+     * 구간 변경분과 함께 버전을 올린다. 리스너가 변경분을 반영한 뒤에 버전이 올라가므로
+     * 새 버전을 읽은 쪽은 변경분이 반영된 그래프를 보게 된다.
+     * 리스너가 실패해도 이미 커밋된 변경이므로 기록만 남기고 버전은 올린다. 변경분을 반영하지 못한 쪽은 직전 버전에
+     * 머물러 있으므로 다음 조회에서 전부 다시 만든다.
+     */
+    public void increase(List<SectionDelta> deltas) {
+        afterCommit(() -> publish(deltas));
+    }
+
+    private synchronized void increaseVersion() {
+        version.incrementAndGet();
+    }
+
+    private synchronized void publish(List<SectionDelta> deltas) {
+        long next = version.get() + 1;
+        for (NetworkChangeListener listener : listeners) {
+            try {
+                listener.onChange(next, deltas);
+            } catch (RuntimeException e) {
+                log.warn("노선 변경분을 반영하지 못했습니다. version={}", next, e);
+            }
+        }
+        version.set(next);
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+
+        // 커밋 전에 버전이 올라가면 이전 데이터로 새 버전의 그래프가 만들어질 수 있으므로 커밋 이후에 반영
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+}
@@ -1,7 +1,10 @@
 package nextstep.subway.line.application;
 
+import nextstep.subway.common.NetworkVersion;
 import nextstep.subway.line.domain.Line;
 import nextstep.subway.line.domain.LineRepository;
+import nextstep.subway.line.domain.SectionDelta;
+import nextstep.subway.line.domain.SectionSnapshot;
 import nextstep.subway.line.dto.LineRequest;
 import nextstep.subway.line.dto.LineResponse;
 import nextstep.subway.line.dto.SectionRequest;
@@ -10,6 +13,7 @@ import nextstep.subway.station.domain.Station;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -18,17 +22,21 @@ import java.util.stream.Collectors;
 public class LineService {
     private LineRepository lineRepository;
     private StationService stationService;
+    private NetworkVersion networkVersion;
 
-    public LineService(LineRepository lineRepository, StationService stationService) {
+    public LineService(LineRepository lineRepository, StationService stationService, NetworkVersion networkVersion) {
         this.lineRepository = lineRepository;
         this.stationService = stationService;
+        this.networkVersion = networkVersion;
     }
 
     public LineResponse saveLine(LineRequest request) {
         Station upStation = stationService.findById(request.getUpStationId());
         Station downStation = stationService.findById(request.getDownStationId());
         Line persistLine = lineRepository.save(new Line(request.getName(), request.getColor()));
+        SectionSnapshot before = SectionSnapshot.of(persistLine);
         persistLine.addSection(upStation, downStation, request.getDistance(), request.getDuration());
+        publishChanges(persistLine, before);
         return LineResponse.of(persistLine);
     }
 
@@ -55,22 +63,38 @@ public class LineService {
     public void updateLine(Long id, LineRequest lineUpdateRequest) {
         Line persistLine = lineRepository.findById(id).orElseThrow(RuntimeException::new);
         persistLine.update(new Line(lineUpdateRequest.getName(), lineUpdateRequest.getColor()));
+        // 이름과 색상은 경로 탐색과 관계가 없으므로 구간 변경분 없이 버전만 올린다
+        networkVersion.increase(Collections.emptyList());
     }
 
     public void deleteLineById(Long id) {
+        List<SectionDelta> deltas = findLineById(id).getSections().getSections().stream()
+                .map(SectionDelta::removed)
+                .collect(Collectors.toList());
         lineRepository.deleteById(id);
+        networkVersion.increase(deltas);
     }
 
     public void addSection(Long lineId, SectionRequest request) {
         Line line = findLineById(lineId);
         Station upStation = stationService.findStationById(request.getUpStationId());
         Station downStation = stationService.findStationById(request.getDownStationId());
+        SectionSnapshot before = SectionSnapshot.of(line);
         line.addSection(upStation, downStation, request.getDistance(), request.getDuration());
+        publishChanges(line, before);
     }
 
     public void removeSection(Long lineId, Long stationId) {
         Line line = findLineById(lineId);
         Station station = stationService.findStationById(stationId);
+        SectionSnapshot before = SectionSnapshot.of(line);
         line.removeSection(station);
+        publishChanges(line, before);
+    }
+
+    private void publishChanges(Line line, SectionSnapshot before) {
+        // 새 구간의 id 가 정해져야 변경분을 구간 단위로 적용할 수 있다
+        lineRepository.flush();
+        networkVersion.increase(before.changesOf(line));
     }
 }
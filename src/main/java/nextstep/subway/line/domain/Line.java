@@ -60,6 +60,16 @@ public class Line extends BaseEntity {
         sections.removeSection(station);
     }
 
+    /**
+     * 이름과 색을 바꿔도 같은 노선이므로 id 로 비교한다. 저장되지 않아 id 가 없는 노선만 equals 로 비교한다.
+     */
+    public boolean isSameLine(Line other) {
+        if (id == null || other.id == null) {
+            return equals(other);
+        }
+        return id.equals(other.id);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -29,6 +29,11 @@ public class Section {
     }
 
     public Section(Line line, Station upStation, Station downStation, int distance, int duration) {
+        this(null, line, upStation, downStation, distance, duration);
+    }
+
+    public Section(Long id, Line line, Station upStation, Station downStation, int distance, int duration) {
+        this.id = id;
         this.line = line;
         this.upStation = upStation;
         this.downStation = downStation;
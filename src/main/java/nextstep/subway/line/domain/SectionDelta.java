@@ -0,0 +1,39 @@
+package nextstep.subway.line.domain;
+
+/**
+ * 구간 하나의 변경분. 변경 이후의 구간 상태를 복사해 두므로 원본 엔티티가 다시 바뀌어도 영향을 받지 않는다.
+ */
+public class SectionDelta {
+    private final SectionDeltaType type;
+    private final Section section;
+
+    private SectionDelta(SectionDeltaType type, Section section) {
+        this.type = type;
+        this.section = new Section(section.getId(), section.getLine(), section.getUpStation(), section.getDownStation(),
+                section.getDistance(), section.getDuration());
+    }
+
+    public static SectionDelta added(Section section) {
+        return new SectionDelta(SectionDeltaType.ADDED, section);
+    }
+
+    public static SectionDelta removed(Section section) {
+        return new SectionDelta(SectionDeltaType.REMOVED, section);
+    }
+
+    public static SectionDelta weightChanged(Section section) {
+        return new SectionDelta(SectionDeltaType.WEIGHT_CHANGED, section);
+    }
+
+    public SectionDeltaType getType() {
+        return type;
+    }
+
+    public Section getSection() {
+        return section;
+    }
+
+    public Long getSectionId() {
+        return section.getId();
+    }
+}
@@ -0,0 +1,7 @@
+package nextstep.subway.line.domain;
+
+public enum SectionDeltaType {
+    ADDED,
+    REMOVED,
+    WEIGHT_CHANGED
+}
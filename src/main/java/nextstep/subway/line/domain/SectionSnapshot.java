@@ -0,0 +1,52 @@
+package nextstep.subway.line.domain;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 노선의 구간 상태를 기록해 두었다가, 구간을 추가하거나 제거한 뒤 달라진 구간만 변경분으로 돌려준다.
+ * 구간 추가/제거는 엔티티를 제자리에서 바꾸므로 같은 객체끼리 비교한다.
+ */
+public class SectionSnapshot {
+    private final Map<Section, Section> states = new IdentityHashMap<>();
+
+    private SectionSnapshot(Line line) {
+        for (Section section : line.getSections().getSections()) {
+            states.put(section, new Section(section.getId(), section.getLine(), section.getUpStation(),
+                    section.getDownStation(), section.getDistance(), section.getDuration()));
+        }
+    }
+
+    public static SectionSnapshot of(Line line) {
+        return new SectionSnapshot(line);
+    }
+
+    public List<SectionDelta> changesOf(Line line) {
+        List<SectionDelta> removed = new ArrayList<>();
+        List<SectionDelta> changed = new ArrayList<>();
+        Map<Section, Section> remains = new IdentityHashMap<>(states);
+        for (Section section : line.getSections().getSections()) {
+            Section before = remains.remove(section);
+            if (before == null) {
+                changed.add(SectionDelta.added(section));
+                continue;
+            }
+
+            if (before.getUpStation() != section.getUpStation() || before.getDownStation() != section.getDownStation()) {
+                // 구간이 쪼개지면 양 끝 역이 바뀌므로 이전 구간을 지우고 새 구간을 더한다
+                removed.add(SectionDelta.removed(before));
+                changed.add(SectionDelta.added(section));
+            } else if (before.getDistance() != section.getDistance() || before.getDuration() != section.getDuration()) {
+                changed.add(SectionDelta.weightChanged(section));
+            }
+        }
+        for (Section section : remains.values()) {
+            removed.add(SectionDelta.removed(section));
+        }
+
+        removed.addAll(changed);
+        return removed;
+    }
+}
@@ -140,4 +140,8 @@ public class Sections {
     public int getTotalDuration() {
         return sections.stream().mapToInt(it -> it.getDuration()).sum();
     }
+
+    public int getTotalWeightOf(PathType type) {
+        return sections.stream().mapToInt(it -> type.findWeightOf(it)).sum();
+    }
 }
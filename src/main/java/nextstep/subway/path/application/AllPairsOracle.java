@@ -0,0 +1,76 @@
+package nextstep.subway.path.application;
+
+import nextstep.subway.common.NetworkVersion;
+import nextstep.subway.line.application.LineService;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.path.domain.AllPairsTable;
+import nextstep.subway.path.domain.CsrGraph;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 모든 역 쌍의 경로 표를 백그라운드에서 만들어 두고, 새 표가 준비될 때까지는 이전 표로 응답한다.
+ */
+@Component
+public class AllPairsOracle {
+    private LineService lineService;
+    private boolean enabled;
+    private int maxStations;
+    private BackgroundIndex<Map<PathType, AllPairsTable>> tables;
+
+    public AllPairsOracle(LineService lineService, NetworkVersion networkVersion,
+                          @Value("${subway.path.all-pairs.enabled:false}") boolean enabled,
+                          @Value("${subway.path.all-pairs.max-stations:2000}") int maxStations) {
+        this.lineService = lineService;
+        this.enabled = enabled;
+        this.maxStations = maxStations;
+        this.tables = new BackgroundIndex<>("all-pairs-oracle", networkVersion, this::buildTables);
+    }
+
+    public Optional<AllPairsTable> findTable(PathType type) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return tables.findLatest().map(it -> it.get(type));
+    }
+
+    /**
+     * 주어진 노선 정보 버전 이후로 만들어진 표만 돌려준다. 결과를 그 버전으로 저장할 때 쓴다.
+     */
+    public Optional<AllPairsTable> findTable(PathType type, long version) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return tables.findSince(version).map(it -> it.get(type));
+    }
+
+    public boolean isRebuilding(long version) {
+        return enabled && tables.isOlderThan(version);
+    }
+
+    private Map<PathType, AllPairsTable> buildTables() {
+        List<Line> lines = lineService.findLines();
+        Map<PathType, AllPairsTable> built = new EnumMap<>(PathType.class);
+        CsrGraph distanceGraph = new CsrGraph(lines, PathType.DISTANCE);
+        for (PathType type : PathType.values()) {
+            CsrGraph graph = distanceGraph.withType(type);
+            if (graph.size() > maxStations) {
+                break;
+            }
+            built.put(type, new AllPairsTable(graph));
+        }
+        return built;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        tables.shutdown();
+    }
+}
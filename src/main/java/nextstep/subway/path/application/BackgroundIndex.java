@@ -0,0 +1,117 @@
+package nextstep.subway.path.application;
+
+import nextstep.subway.common.NetworkVersion;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 노선 정보 버전이 바뀌면 전용 스레드에서 다시 만드는 색인.
+ * 새 색인이 준비될 때까지 이전 색인을 그대로 보관한다.
+ */
+public class BackgroundIndex<T> {
+    private static final long NO_VERSION = -1L;
+
+    private final NetworkVersion networkVersion;
+    private final Supplier<T> builder;
+    private final AtomicReference<Built<T>> built = new AtomicReference<>(new Built<>(NO_VERSION, null));
+    private final AtomicLong requestedVersion = new AtomicLong(NO_VERSION);
+    private final ExecutorService executor;
+
+    public BackgroundIndex(String name, NetworkVersion networkVersion, Supplier<T> builder) {
+        this.networkVersion = networkVersion;
+        this.builder = builder;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 가장 최근에 만들어진 색인을 돌려준다. 노선 정보가 바뀐 뒤라면 이전 버전의 색인일 수 있다.
+     */
+    public Optional<T> findLatest() {
+        return Optional.ofNullable(refresh().index);
+    }
+
+    /**
+     * 현재 노선 정보 버전으로 만들어진 색인만 돌려준다.
+     */
+    public Optional<T> findCurrent() {
+        long version = networkVersion.current();
+        Built<T> current = refresh();
+        if (current.version != version) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(current.index);
+    }
+
+    /**
+     * 보관 중인 색인이 주어진 버전보다 이전 버전으로 만들어졌는지 확인한다. findLatest 가 이전 색인을 돌려주는 동안 참이다.
+     */
+    public boolean isOlderThan(long version) {
+        Built<T> current = refresh();
+        return current.index != null && current.version < version;
+    }
+
+    /**
+     * 주어진 버전 이후로 만들어진 색인만 돌려준다. 색인은 한 스레드에서 버전 순서대로 만들어지므로 한번 참이면 계속 참이다.
+     */
+    public Optional<T> findSince(long version) {
+        Built<T> current = refresh();
+        if (current.version < version) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(current.index);
+    }
+
+    private Built<T> refresh() {
+        long version = networkVersion.current();
+        Built<T> current = built.get();
+        if (current.version != version) {
+            scheduleRebuild(version);
+        }
+        return current;
+    }
+
+    private void scheduleRebuild(long version) {
+        long requested = requestedVersion.get();
+        if (requested >= version || !requestedVersion.compareAndSet(requested, version)) {
+            return;
+        }
+        executor.execute(() -> rebuild(version));
+    }
+
+    private void rebuild(long version) {
+        // 대기하는 동안 더 최신 버전이 요청되었다면 그 작업에 맡긴다
+        if (requestedVersion.get() != version) {
+            return;
+        }
+
+        try {
+            built.set(new Built<>(version, builder.get()));
+        } catch (RuntimeException e) {
+            requestedVersion.compareAndSet(version, NO_VERSION);
+            throw e;
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static class Built<T> {
+        private final long version;
+        private final T index;
+
+        private Built(long version, T index) {
+            this.version = version;
+            this.index = index;
+        }
+    }
+}
@@ -1,23 +1,199 @@
 package nextstep.subway.path.application;
 
+import nextstep.subway.common.NetworkVersion;
 import nextstep.subway.line.application.LineService;
-import nextstep.subway.line.domain.Line;
 import nextstep.subway.line.domain.PathType;
+import nextstep.subway.line.domain.SectionDelta;
+import nextstep.subway.path.domain.CsrGraph;
+import nextstep.subway.path.domain.GraphSnapshot;
+import nextstep.subway.path.domain.PathEngine;
+import nextstep.subway.path.domain.PathEngineSettings;
 import nextstep.subway.path.domain.SubwayGraph;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 public class GraphService {
     private LineService lineService;
+    private NetworkVersion networkVersion;
+    private PathEngine engine;
+    private PathEngineSettings settings;
+    private Map<PathType, AtomicReference<GraphSnapshot>> snapshots = new EnumMap<>(PathType.class);
+    private Map<Long, List<SectionDelta>> pendingChanges = new ConcurrentHashMap<>();
+    private ExecutorService updater = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "graph-updater");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ExecutorService preprocessor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "graph-preprocessor");
+        thread.setDaemon(true);
+        return thread;
+    });
 
-    public GraphService(LineService lineService) {
+    public GraphService(LineService lineService, NetworkVersion networkVersion,
+                        @Value("${subway.path.engine:CSR}") PathEngine engine,
+                        @Value("${subway.path.alt.landmarks:8}") int landmarkCount,
+                        @Value("${subway.path.tree-cache.capacity:64}") int treeCacheCapacity) {
         this.lineService = lineService;
+        this.networkVersion = networkVersion;
+        this.engine = engine;
+        this.settings = new PathEngineSettings(landmarkCount, treeCacheCapacity);
+        for (PathType type : PathType.values()) {
+            snapshots.put(type, new AtomicReference<>(GraphSnapshot.empty()));
+        }
+        networkVersion.addListener(this::applyChanges);
     }
 
     public SubwayGraph findGraph(PathType type) {
-        List<Line> lines = lineService.findLines();
-        return new SubwayGraph(lines, type);
+        return findSnapshot(type).getGraph();
+    }
+
+    public GraphSnapshot findSnapshot(PathType type) {
+        long version = networkVersion.current();
+        AtomicReference<GraphSnapshot> reference = snapshots.get(type);
+        GraphSnapshot snapshot = reference.get();
+        if (snapshot.isUpToDate(version)) {
+            return snapshot;
+        }
+
+        // 같은 버전의 그래프는 한 번만 만들어지도록 타입별로 잠금
+        synchronized (reference) {
+            snapshot = reference.get();
+            if (snapshot.isUpToDate(version)) {
+                return snapshot;
+            }
+            GraphSnapshot caughtUp = catchUp(type, reference, version);
+            if (caughtUp != null) {
+                return caughtUp;
+            }
+            return install(reference, version, new CsrGraph(lineService.findLines(), type));
+        }
+    }
+
+    // 다른 경로 타입의 그래프가 이미 최신이면 그 배열을 공유하고, 아니면 쌓아 둔 변경분을 이어서 반영한다
+    private GraphSnapshot catchUp(PathType type, AtomicReference<GraphSnapshot> reference, long version) {
+        GraphSnapshot sibling = findSiblingSnapshot(version);
+        if (sibling != null) {
+            return install(reference, sibling.getVersion(), sibling.getGraph().getCsrGraph().withType(type));
+        }
+        CsrGraph applied = applyPendingChanges(reference.get(), version);
+        if (applied == null) {
+            return null;
+        }
+        return install(reference, version, applied);
+    }
+
+    private GraphSnapshot findSiblingSnapshot(long version) {
+        for (AtomicReference<GraphSnapshot> reference : snapshots.values()) {
+            GraphSnapshot snapshot = reference.get();
+            if (snapshot.isUpToDate(version)) {
+                return snapshot;
+            }
+        }
+        return null;
+    }
+
+    // 중간 버전의 변경분이 하나라도 없으면(버전만 올린 변경) 이어서 반영할 수 없으므로 null
+    private CsrGraph applyPendingChanges(GraphSnapshot snapshot, long version) {
+        if (snapshot.getGraph() == null) {
+            return null;
+        }
+        CsrGraph graph = snapshot.getGraph().getCsrGraph();
+        for (long next = snapshot.getVersion() + 1; next <= version; next++) {
+            List<SectionDelta> deltas = pendingChanges.get(next);
+            if (deltas == null) {
+                return null;
+            }
+            graph = graph.apply(deltas);
+        }
+        return graph;
+    }
+
+    /**
+     * 커밋한 스레드에서는 변경분을 쌓아 두기만 하고, 그래프 반영은 graph-updater 스레드에서 한다.
+     * 반영이 끝나기 전에 새 버전을 읽은 조회는 findSnapshot 에서 같은 변경분을 직접 이어서 반영한다.
+     */
+    private void applyChanges(long version, List<SectionDelta> deltas) {
+        pendingChanges.put(version, deltas);
+        updater.execute(() -> update(version));
+    }
+
+    private void update(long version) {
+        for (Map.Entry<PathType, AtomicReference<GraphSnapshot>> entry : snapshots.entrySet()) {
+            AtomicReference<GraphSnapshot> reference = entry.getValue();
+            synchronized (reference) {
+                GraphSnapshot snapshot = reference.get();
+                if (snapshot.getGraph() == null || snapshot.isUpToDate(version)) {
+                    continue;
+                }
+                // 이어서 반영할 수 없는 그래프는 비워 두고 다음 조회에서 전부 다시 만든다
+                if (catchUp(entry.getKey(), reference, version) == null) {
+                    reference.set(GraphSnapshot.empty());
+                }
+            }
+        }
+        discardAppliedChanges(version);
+    }
+
+    // 모든 그래프가 반영한 버전까지의 변경분은 더 이상 필요 없다
+    private void discardAppliedChanges(long version) {
+        long applied = version;
+        for (AtomicReference<GraphSnapshot> reference : snapshots.values()) {
+            GraphSnapshot snapshot = reference.get();
+            if (snapshot.getGraph() != null) {
+                applied = Math.min(applied, snapshot.getVersion());
+            }
+        }
+        long discardUntil = applied;
+        pendingChanges.keySet().removeIf(pending -> pending <= discardUntil);
+    }
+
+    /**
+     * 직전 그래프의 엔진을 옮겨 쓸 수 있으면(SubwayGraph.patch) 그대로 쓰고, 아니면 새로 만든다.
+     */
+    private GraphSnapshot install(AtomicReference<GraphSnapshot> reference, long version, CsrGraph graph) {
+        SubwayGraph previous = reference.get().getGraph();
+        SubwayGraph patched = previous == null ? null : previous.patch(graph, engine, settings);
+        if (patched != null) {
+            GraphSnapshot installed = new GraphSnapshot(version, patched);
+            reference.set(installed);
+            return installed;
+        }
+
+        if (!engine.isPreprocessed()) {
+            GraphSnapshot rebuilt = new GraphSnapshot(version, new SubwayGraph(graph, engine, settings));
+            reference.set(rebuilt);
+            return rebuilt;
+        }
+
+        // 전처리가 끝날 때까지는 바로 만들 수 있는 CSR 그래프로 응답하고, 전처리는 요청 밖에서 진행
+        GraphSnapshot interim = new GraphSnapshot(version, new SubwayGraph(graph, PathEngine.CSR, settings));
+        reference.set(interim);
+        preprocessor.execute(() -> preprocess(reference, interim, graph));
+        return interim;
+    }
+
+    private void preprocess(AtomicReference<GraphSnapshot> reference, GraphSnapshot interim, CsrGraph graph) {
+        if (reference.get() != interim) {
+            return;
+        }
+        SubwayGraph preprocessed = new SubwayGraph(graph, engine, settings);
+        reference.compareAndSet(interim, new GraphSnapshot(interim.getVersion(), preprocessed));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        updater.shutdownNow();
+        preprocessor.shutdownNow();
     }
 }
@@ -0,0 +1,56 @@
+package nextstep.subway.path.application;
+
+import nextstep.subway.common.NetworkVersion;
+import nextstep.subway.line.application.LineService;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.path.domain.ContractionHierarchyBuilder;
+import nextstep.subway.path.domain.CsrGraph;
+import nextstep.subway.path.domain.HubLabels;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 경로 타입별 허브 라벨을 백그라운드에서 만든다. 현재 노선 정보 버전으로 만든 라벨만 사용한다.
+ */
+@Component
+public class HubLabelOracle {
+    private LineService lineService;
+    private boolean enabled;
+    private BackgroundIndex<Map<PathType, HubLabels>> labels;
+
+    public HubLabelOracle(LineService lineService, NetworkVersion networkVersion,
+                          @Value("${subway.path.hub-label.enabled:true}") boolean enabled) {
+        this.lineService = lineService;
+        this.enabled = enabled;
+        this.labels = new BackgroundIndex<>("hub-label-oracle", networkVersion, this::buildLabels);
+    }
+
+    public Optional<HubLabels> findLabels(PathType type) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return labels.findCurrent().map(it -> it.get(type));
+    }
+
+    private Map<PathType, HubLabels> buildLabels() {
+        List<Line> lines = lineService.findLines();
+        Map<PathType, HubLabels> built = new EnumMap<>(PathType.class);
+        CsrGraph graph = new CsrGraph(lines, PathType.DISTANCE);
+        for (PathType type : PathType.values()) {
+            built.put(type, new HubLabels(new ContractionHierarchyBuilder(graph.withType(type)).build()));
+        }
+        return built;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        labels.shutdown();
+    }
+}
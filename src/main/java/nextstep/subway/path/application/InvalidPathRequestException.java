@@ -0,0 +1,7 @@
+package nextstep.subway.path.application;
+
+public class InvalidPathRequestException extends RuntimeException {
+    public InvalidPathRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,162 @@
+package nextstep.subway.path.application;
+
+import nextstep.subway.common.NetworkVersion;
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.path.dto.PathResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 최근에 조회한 경로를 정해진 개수만큼 보관한다. 노선 정보 버전이 키에 포함되므로 구간이 바뀐 뒤에는 이전 경로를 돌려주지 않는다.
+ * 키의 해시로 나눈 구간(segment)마다 따로 잠그고 구간 안에서만 가장 오래 사용하지 않은 경로를 지우므로,
+ * 전체로 보면 근사한 LRU 이다.
+ */
+@Component
+public class PathCache {
+    private static final int MAX_SEGMENT_COUNT = 16;
+    private static final int MIN_SEGMENT_CAPACITY = 64;
+
+    private NetworkVersion networkVersion;
+    private boolean enabled;
+    private Segment[] segments;
+    private LongAdder hitCount = new LongAdder();
+    private LongAdder missCount = new LongAdder();
+    private LongAdder evictionCount = new LongAdder();
+
+    public PathCache(NetworkVersion networkVersion,
+                     @Value("${subway.path.cache.enabled:true}") boolean enabled,
+                     @Value("${subway.path.cache.capacity:1000}") int capacity) {
+        this.networkVersion = networkVersion;
+        this.enabled = enabled;
+        // 용량이 작으면 구간을 나누지 않아야 정확한 LRU 로 동작한다
+        int segmentCount = 1;
+        while (segmentCount * 2 <= MAX_SEGMENT_COUNT && capacity / (segmentCount * 2) >= MIN_SEGMENT_CAPACITY) {
+            segmentCount *= 2;
+        }
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(capacity / segmentCount);
+        }
+    }
+
+    public PathResponse find(Long source, Long target, PathType type, Supplier<PathResponse> loader) {
+        // 조회를 시작한 시점의 버전으로 저장해야 계산 중에 바뀐 노선 정보가 새 버전으로 저장되지 않는다
+        return find(source, target, type, networkVersion.current(), loader);
+    }
+
+    /**
+     * 주어진 노선 정보 버전의 키로 찾고 저장한다. loader 는 그 버전 이후의 노선 정보로 계산해야 한다.
+     */
+    public PathResponse find(Long source, Long target, PathType type, long version, Supplier<PathResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        PathKey key = new PathKey(source, target, type, version);
+        PathResponse cached = get(key);
+        if (cached != null) {
+            hitCount.increment();
+            return cached;
+        }
+
+        missCount.increment();
+        return load(key, loader);
+    }
+
+    /**
+     * 저장된 경로가 있을 때만 돌려주고, 없으면 계산하지 않고 null 을 돌려준다. 없었던 조회는 여기서 세므로
+     * 이어서 계산할 때는 find 대신 load 를 써야 같은 요청이 두 번 세어지지 않는다.
+     */
+    public PathResponse findCached(Long source, Long target, PathType type) {
+        if (!enabled) {
+            return null;
+        }
+        PathResponse cached = get(new PathKey(source, target, type, networkVersion.current()));
+        if (cached == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return cached;
+    }
+
+    /**
+     * findCached 로 이미 찾아 본 요청이 다시 찾지 않고 계산해 저장한다. 통계는 세지 않는다.
+     */
+    public PathResponse load(Long source, Long target, PathType type, long version, Supplier<PathResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return load(new PathKey(source, target, type, version), loader);
+    }
+
+    private PathResponse load(PathKey key, Supplier<PathResponse> loader) {
+        PathResponse loaded = loader.get();
+        put(key, loaded);
+        return loaded;
+    }
+
+    private PathResponse get(PathKey key) {
+        Segment segment = segmentOf(key);
+        synchronized (segment) {
+            return segment.get(key);
+        }
+    }
+
+    private void put(PathKey key, PathResponse response) {
+        Segment segment = segmentOf(key);
+        synchronized (segment) {
+            segment.put(key, response);
+        }
+    }
+
+    private Segment segmentOf(PathKey key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private class Segment extends LinkedHashMap<PathKey, PathResponse> {
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<PathKey, PathResponse> eldest) {
+            if (size() <= capacity) {
+                return false;
+            }
+            evictionCount.increment();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package nextstep.subway.path.application;
+
+import nextstep.subway.common.NetworkVersion;
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.path.dto.PathResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 같은 경로를 동시에 요청하면 먼저 온 요청만 경로를 계산하고, 나머지 요청은 그 결과를 함께 받는다.
+ * 계산이 끝나면 바로 지우므로 이미 끝난 결과를 돌려주지는 않는다. 끝난 결과의 재사용은 PathCache 가 맡는다.
+ */
+@Component
+public class PathCoalescer {
+    private NetworkVersion networkVersion;
+    private boolean enabled;
+    private ConcurrentMap<PathKey, CompletableFuture<PathResponse>> inFlights = new ConcurrentHashMap<>();
+    private AtomicLong executionCount = new AtomicLong();
+    private AtomicLong coalescedCount = new AtomicLong();
+
+    public PathCoalescer(NetworkVersion networkVersion,
+                         @Value("${subway.path.coalescing.enabled:true}") boolean enabled) {
+        this.networkVersion = networkVersion;
+        this.enabled = enabled;
+    }
+
+    public PathResponse find(Long source, Long target, PathType type, Supplier<PathResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        PathKey key = new PathKey(source, target, type, networkVersion.current());
+        CompletableFuture<PathResponse> inFlight = new CompletableFuture<>();
+        CompletableFuture<PathResponse> existing = inFlights.putIfAbsent(key, inFlight);
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            return await(existing);
+        }
+
+        executionCount.incrementAndGet();
+        try {
+            PathResponse loaded = loader.get();
+            inFlight.complete(loaded);
+            return loaded;
+        } catch (RuntimeException | Error e) {
+            // 기다리던 요청도 같은 예외를 받아야 하므로 실패도 결과로 남긴다
+            inFlight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlights.remove(key, inFlight);
+        }
+    }
+
+    private PathResponse await(CompletableFuture<PathResponse> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public int inFlightCount() {
+        return inFlights.size();
+    }
+
+    public long getExecutionCount() {
+        return executionCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+}
@@ -0,0 +1,35 @@
+package nextstep.subway.path.application;
+
+import nextstep.subway.line.domain.PathType;
+
+import java.util.Objects;
+
+class PathKey {
+    private final Long source;
+    private final Long target;
+    private final PathType type;
+    private final long version;
+
+    PathKey(Long source, Long target, PathType type, long version) {
+        this.source = source;
+        this.target = target;
+        this.type = type;
+        this.version = version;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PathKey pathKey = (PathKey) o;
+        return version == pathKey.version &&
+                Objects.equals(source, pathKey.source) &&
+                Objects.equals(target, pathKey.target) &&
+                type == pathKey.type;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source, target, type, version);
+    }
+}
@@ -1,28 +1,289 @@
 package nextstep.subway.path.application;
 
+import nextstep.subway.common.NetworkVersion;
 import nextstep.subway.line.domain.PathType;
+import nextstep.subway.path.domain.AllPairsTable;
+import nextstep.subway.path.domain.BlendedCost;
+import nextstep.subway.path.domain.LineExpandedGraph;
+import nextstep.subway.path.domain.PathFinder;
+import nextstep.subway.path.domain.PathMask;
+import nextstep.subway.path.domain.PathNotFoundException;
 import nextstep.subway.path.domain.PathResult;
+import nextstep.subway.path.domain.ShortestPathTree;
 import nextstep.subway.path.domain.SubwayGraph;
+import nextstep.subway.path.dto.AlternativePathsResponse;
+import nextstep.subway.path.dto.BatchPathResponse;
+import nextstep.subway.path.dto.IsochroneResponse;
+import nextstep.subway.path.dto.ParetoPathsResponse;
+import nextstep.subway.path.dto.PathCostResponse;
+import nextstep.subway.path.dto.PathRequest;
 import nextstep.subway.path.dto.PathResponse;
+import nextstep.subway.path.dto.PathTreeResponse;
+import nextstep.subway.path.dto.SectionClosureImpactResponse;
+import nextstep.subway.path.dto.TransferPathResponse;
 import nextstep.subway.station.application.StationService;
 import nextstep.subway.station.domain.Station;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 @Service
 public class PathService {
     private GraphService graphService;
     private StationService stationService;
+    private NetworkVersion networkVersion;
+    private AllPairsOracle allPairsOracle;
+    private HubLabelOracle hubLabelOracle;
+    private PathCache pathCache;
+    private PathCoalescer pathCoalescer;
+    private RoutingExecutor routingExecutor;
+    private int alternativeSettleLimit;
+    private int closureImpactMaxStations;
 
-    public PathService(GraphService graphService, StationService stationService) {
+    public PathService(GraphService graphService, StationService stationService, NetworkVersion networkVersion,
+                       AllPairsOracle allPairsOracle, HubLabelOracle hubLabelOracle,
+                       PathCache pathCache, PathCoalescer pathCoalescer, RoutingExecutor routingExecutor,
+                       @Value("${subway.path.alternatives.settle-limit:100000}") int alternativeSettleLimit,
+                       @Value("${subway.path.closure-impact.max-stations:2000}") int closureImpactMaxStations) {
         this.graphService = graphService;
         this.stationService = stationService;
+        this.networkVersion = networkVersion;
+        this.allPairsOracle = allPairsOracle;
+        this.hubLabelOracle = hubLabelOracle;
+        this.pathCache = pathCache;
+        this.pathCoalescer = pathCoalescer;
+        this.routingExecutor = routingExecutor;
+        this.alternativeSettleLimit = alternativeSettleLimit;
+        this.closureImpactMaxStations = closureImpactMaxStations;
     }
 
     public PathResponse findPath(Long source, Long target, PathType type) {
-        SubwayGraph subwayGraph = graphService.findGraph(type);
+        return findPath(source, target, type, true);
+    }
+
+    // lookupCache 가 false 이면 이미 캐시를 찾아 본 요청이므로 다시 찾지 않고 계산해 저장만 한다
+    private PathResponse findPath(Long source, Long target, PathType type, boolean lookupCache) {
+        long version = networkVersion.current();
+        // 경로 표를 다시 만드는 동안에는 이전 버전의 표로 계산하므로 그 결과를 지금 버전으로 저장하거나 나누지 않는다
+        if (allPairsOracle.isRebuilding(version)) {
+            return calculatePath(source, target, type, allPairsOracle.findTable(type));
+        }
+        // 캐시에 없는 경로만 동시 요청을 하나로 묶어 계산한다
+        Supplier<PathResponse> loader = () -> pathCoalescer.find(source, target, type,
+                () -> calculatePath(source, target, type, allPairsOracle.findTable(type, version)));
+        if (!lookupCache) {
+            return pathCache.load(source, target, type, version, loader);
+        }
+        return pathCache.find(source, target, type, version, loader);
+    }
+
+    public CompletableFuture<PathResponse> findPathAsync(Long source, Long target, PathType type) {
+        // 저장된 경로는 탐색 스레드를 거치지 않고 바로 돌려준다
+        PathResponse cached = pathCache.findCached(source, target, type);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return routingExecutor.submit(() -> findPath(source, target, type, false));
+    }
+
+    public CompletableFuture<PathResponse> findPathAsync(Long source, Long target, PathType type,
+                                                         List<Long> avoidStationIds, List<Long> avoidSectionIds) {
+        if (avoidStationIds.isEmpty() && avoidSectionIds.isEmpty()) {
+            return findPathAsync(source, target, type);
+        }
+        // 제외할 역과 구간은 요청마다 달라서 저장하거나 묶지 않는다
+        return routingExecutor.submit(() -> findAvoidingPath(source, target, type, avoidStationIds, avoidSectionIds));
+    }
+
+    public PathResponse findAvoidingPath(Long source, Long target, PathType type,
+                                         List<Long> avoidStationIds, List<Long> avoidSectionIds) {
+        if (avoidStationIds.contains(source) || avoidStationIds.contains(target)) {
+            throw new InvalidPathRequestException("출발역과 도착역은 제외할 수 없습니다.");
+        }
         Station sourceStation = stationService.findStationById(source);
         Station targetStation = stationService.findStationById(target);
-        PathResult pathResult = subwayGraph.findPath(sourceStation, targetStation);
+        List<Station> avoidStations = stationService.findAllStationsById(new HashSet<>(avoidStationIds));
+        SubwayGraph graph = graphService.findGraph(type);
+        PathMask mask = PathMask.of(graph.getCsrGraph(), avoidStations, avoidSectionIds);
+        return PathResponse.of(graph.findPath(sourceStation, targetStation, mask));
+    }
+
+    private PathResponse calculatePath(Long source, Long target, PathType type, Optional<AllPairsTable> table) {
+        Station sourceStation = stationService.findStationById(source);
+        Station targetStation = stationService.findStationById(target);
+        PathResult pathResult = findPathFinder(type, table, sourceStation, targetStation).findPath(sourceStation, targetStation);
         return PathResponse.of(pathResult);
     }
+
+    private PathFinder findPathFinder(PathType type, Station source, Station target) {
+        return findPathFinder(type, allPairsOracle.findTable(type), source, target);
+    }
+
+    private PathFinder findPathFinder(PathType type, Optional<AllPairsTable> table, Station source, Station target) {
+        return table
+                .filter(it -> it.contains(source) && it.contains(target))
+                .map(it -> (PathFinder) it)
+                .orElseGet(() -> graphService.findGraph(type));
+    }
+
+    /**
+     * 요청마다 결과를 따로 돌려준다. 없는 역이나 연결되지 않은 역이 포함된 요청은 오류 코드로 응답하고 나머지 요청은 그대로 처리한다.
+     */
+    public List<BatchPathResponse> findPaths(List<PathRequest> pathRequests) {
+        Map<Long, Station> stations = findExistingStations(pathRequests);
+        Map<PathType, SubwayGraph> graphs = new EnumMap<>(PathType.class);
+        for (PathRequest pathRequest : pathRequests) {
+            graphs.computeIfAbsent(pathRequest.getType(), graphService::findGraph);
+        }
+
+        BatchPathResponse[] pathResponses = new BatchPathResponse[pathRequests.size()];
+        List<Integer> searchable = new ArrayList<>();
+        for (int i = 0; i < pathRequests.size(); i++) {
+            PathRequest pathRequest = pathRequests.get(i);
+            Station source = stations.get(pathRequest.getSource());
+            Station target = stations.get(pathRequest.getTarget());
+            if (source == null || target == null) {
+                pathResponses[i] = BatchPathResponse.error(BatchPathResponse.STATION_NOT_FOUND);
+            } else if (!graphs.get(pathRequest.getType()).getCsrGraph().isConnected(source, target)) {
+                pathResponses[i] = BatchPathResponse.error(BatchPathResponse.PATH_NOT_FOUND);
+            } else {
+                searchable.add(i);
+            }
+        }
+
+        // 경로 타입과 출발역이 같은 요청은 한 번의 탐색으로 처리
+        List<List<Integer>> groups = searchable.stream()
+                .collect(Collectors.groupingBy(i -> pathRequests.get(i).getType(),
+                        Collectors.groupingBy(i -> pathRequests.get(i).getSource())))
+                .values().stream()
+                .flatMap(it -> it.values().stream())
+                .collect(Collectors.toList());
+
+        groups.parallelStream().forEach(group -> {
+            PathRequest first = pathRequests.get(group.get(0));
+            List<Station> targets = group.stream()
+                    .map(i -> stations.get(pathRequests.get(i).getTarget()))
+                    .collect(Collectors.toList());
+            List<PathResult> pathResults = graphs.get(first.getType()).findPaths(stations.get(first.getSource()), targets);
+            for (int i = 0; i < group.size(); i++) {
+                pathResponses[group.get(i)] = BatchPathResponse.of(PathResponse.of(pathResults.get(i)));
+            }
+        });
+        return Arrays.asList(pathResponses);
+    }
+
+    private Map<Long, Station> findExistingStations(List<PathRequest> pathRequests) {
+        Set<Long> stationIds = pathRequests.stream()
+                .flatMap(it -> Stream.of(it.getSource(), it.getTarget()))
+                .collect(Collectors.toSet());
+        return stationService.findAllStationsById(stationIds).stream()
+                .collect(Collectors.toMap(Station::getId, Function.identity()));
+    }
+
+    private Map<Long, Station> findStations(Set<Long> stationIds) {
+        Map<Long, Station> stations = stationService.findAllStationsById(stationIds).stream()
+                .collect(Collectors.toMap(Station::getId, Function.identity()));
+        if (stations.size() != stationIds.size()) {
+            throw new RuntimeException("존재하지 않는 역이 포함되어 있습니다.");
+        }
+        return stations;
+    }
+
+    public PathResponse findPathVia(Long source, List<Long> vias, Long target, PathType type) {
+        List<Long> stopIds = new ArrayList<>();
+        stopIds.add(source);
+        stopIds.addAll(vias);
+        stopIds.add(target);
+        Map<Long, Station> stations = findStations(new HashSet<>(stopIds));
+        List<Station> stops = stopIds.stream()
+                .map(stations::get)
+                .collect(Collectors.toList());
+        return PathResponse.of(graphService.findGraph(type).findPathVia(stops));
+    }
+
+    public TransferPathResponse findTransferAwarePath(Long source, Long target, PathType type, int transferPenalty, Integer maxTransfers) {
+        Station sourceStation = stationService.findStationById(source);
+        Station targetStation = stationService.findStationById(target);
+        int transferLimit = maxTransfers == null ? LineExpandedGraph.UNLIMITED_TRANSFERS : maxTransfers;
+        return TransferPathResponse.of(graphService.findGraph(type)
+                .findTransferAwarePath(sourceStation, targetStation, transferPenalty, transferLimit));
+    }
+
+    public PathTreeResponse findPathTree(Long source, PathType type, boolean predecessors) {
+        Station sourceStation = stationService.findStationById(source);
+        return PathTreeResponse.of(graphService.findGraph(type).findTree(sourceStation), predecessors);
+    }
+
+    public AlternativePathsResponse findAlternativePaths(Long source, Long target, PathType type, int k) {
+        Station sourceStation = stationService.findStationById(source);
+        Station targetStation = stationService.findStationById(target);
+        return AlternativePathsResponse.of(graphService.findGraph(type)
+                .findAlternativePaths(sourceStation, targetStation, k, alternativeSettleLimit));
+    }
+
+    public ParetoPathsResponse findParetoPaths(Long source, Long target) {
+        Station sourceStation = stationService.findStationById(source);
+        Station targetStation = stationService.findStationById(target);
+        // 구간의 거리와 소요 시간을 함께 읽으므로 어느 경로 타입의 그래프를 써도 같다
+        return ParetoPathsResponse.of(graphService.findGraph(PathType.DISTANCE).findParetoPaths(sourceStation, targetStation));
+    }
+
+    public PathResponse findBlendedPath(Long source, Long target, int distanceWeight, int durationWeight) {
+        Station sourceStation = stationService.findStationById(source);
+        Station targetStation = stationService.findStationById(target);
+        BlendedCost cost = new BlendedCost(distanceWeight, durationWeight);
+        // 간선마다 거리와 소요 시간을 함께 가지고 있으므로 어느 경로 타입의 그래프를 써도 같다
+        return PathResponse.of(graphService.findGraph(PathType.DISTANCE).findPath(sourceStation, targetStation, cost));
+    }
+
+    public IsochroneResponse findIsochrone(Long source, PathType type, int budget) {
+        Station sourceStation = stationService.findStationById(source);
+        return IsochroneResponse.of(graphService.findGraph(type).findIsochrone(sourceStation, budget));
+    }
+
+    /**
+     * 모든 역 쌍의 비용을 계산하는 분석이므로 역 수를 제한하고, 탐색 스레드 풀에서 기한 안에만 실행한다.
+     */
+    public CompletableFuture<List<SectionClosureImpactResponse>> analyzeSectionClosures(PathType type, List<Long> sectionIds, int limit) {
+        SubwayGraph graph = graphService.findGraph(type);
+        if (graph.getCsrGraph().size() > closureImpactMaxStations) {
+            throw new RoutingUnavailableException("역이 많아 구간 폐쇄 영향을 분석할 수 없습니다.");
+        }
+        return routingExecutor.submit(() -> graph.analyzeSectionClosures(sectionIds, limit).stream()
+                .map(SectionClosureImpactResponse::of)
+                .collect(Collectors.toList()));
+    }
+
+    public PathCostResponse findPathCost(Long source, Long target) {
+        Station sourceStation = stationService.findStationById(source);
+        Station targetStation = stationService.findStationById(target);
+        int distance = findCost(PathType.DISTANCE, sourceStation, targetStation);
+        int duration = findCost(PathType.DURATION, sourceStation, targetStation);
+        return new PathCostResponse(distance, duration);
+    }
+
+    private int findCost(PathType type, Station source, Station target) {
+        // 허브 라벨이 아직 준비되지 않았을 때만 경로를 직접 찾는다
+        int cost = hubLabelOracle.findLabels(type)
+                .filter(it -> it.contains(source) && it.contains(target))
+                .map(it -> it.findCost(source, target))
+                .orElseGet(() -> findPathFinder(type, source, target).findPath(source, target).getTotalWeightOf(type));
+        if (cost == ShortestPathTree.UNREACHABLE) {
+            throw new PathNotFoundException();
+        }
+        return cost;
+    }
 }
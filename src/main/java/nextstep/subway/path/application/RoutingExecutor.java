@@ -0,0 +1,99 @@
+package nextstep.subway.path.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 경로 탐색을 요청 스레드가 아닌 크기가 정해진 전용 스레드 풀에서 실행한다.
+ * 대기열이 가득 차면 바로 거절하고, 기한을 넘긴 탐색은 스레드를 인터럽트해 탐색 루프가 스스로 멈추게 한다.
+ */
+@Component
+public class RoutingExecutor {
+    private boolean enabled;
+    private long deadlineMillis;
+    private ThreadPoolExecutor executor;
+    private ScheduledExecutorService deadlines = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "routing-deadline");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private AtomicLong rejectedCount = new AtomicLong();
+    private AtomicLong timedOutCount = new AtomicLong();
+
+    public RoutingExecutor(@Value("${subway.path.async.enabled:true}") boolean enabled,
+                           @Value("${subway.path.async.threads:4}") int threads,
+                           @Value("${subway.path.async.queue-capacity:100}") int queueCapacity,
+                           @Value("${subway.path.async.deadline-millis:3000}") long deadlineMillis) {
+        this.enabled = enabled;
+        this.deadlineMillis = deadlineMillis;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "routing-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> search) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(search.get());
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    result.complete(search.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            throw new RoutingUnavailableException("경로 탐색 요청이 많아 처리할 수 없습니다.");
+        }
+
+        ScheduledFuture<?> deadline = deadlines.schedule(() -> {
+            if (result.completeExceptionally(new RoutingUnavailableException("경로 탐색 시간이 초과되었습니다."))) {
+                timedOutCount.incrementAndGet();
+                task.cancel(true);
+            }
+        }, deadlineMillis, TimeUnit.MILLISECONDS);
+        result.whenComplete((value, e) -> deadline.cancel(false));
+        return result;
+    }
+
+    public int queuedCount() {
+        return executor.getQueue().size();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getTimedOutCount() {
+        return timedOutCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        deadlines.shutdownNow();
+    }
+}
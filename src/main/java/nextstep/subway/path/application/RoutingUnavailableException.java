@@ -0,0 +1,7 @@
+package nextstep.subway.path.application;
+
+public class RoutingUnavailableException extends RuntimeException {
+    public RoutingUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,68 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.line.domain.Sections;
+import nextstep.subway.station.domain.Station;
+import nextstep.subway.station.domain.Stations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 모든 역 쌍의 최단 비용과 다음 간선(next hop)을 미리 계산해 둔 표.
+ * 구간이 양방향이므로 도착역을 루트로 하는 최단 경로 트리에서 각 역의 부모 간선이 곧 도착역으로 향하는 다음 간선이 된다.
+ */
+public class AllPairsTable implements PathFinder {
+    private final CsrGraph graph;
+    private final int size;
+    private final int[] costs;
+    private final int[] nextEdges;
+
+    public AllPairsTable(CsrGraph graph) {
+        this.graph = graph;
+        this.size = graph.size();
+        this.costs = new int[size * size];
+        this.nextEdges = new int[size * size];
+
+        // 도착역별 최단 경로 트리는 서로 독립적이므로 fork-join 풀에서 병렬로 계산
+        DijkstraPathFinder dijkstra = new DijkstraPathFinder(graph);
+        IntStream.range(0, size).parallel().forEach(target -> {
+            ShortestPathTree tree = dijkstra.findTree(target);
+            int row = target * size;
+            for (int station = 0; station < size; station++) {
+                costs[row + station] = tree.distanceOf(station);
+                nextEdges[row + station] = tree.parentEdgeOf(station);
+            }
+        });
+    }
+
+    public boolean contains(Station station) {
+        return graph.indexOf(station) != CsrGraph.NO_STATION;
+    }
+
+    public int findCost(Station source, Station target) {
+        return costs[graph.indexOf(target) * size + graph.indexOf(source)];
+    }
+
+    @Override
+    public PathResult findPath(Station source, Station target) {
+        int current = graph.indexOf(source);
+        int targetIndex = graph.indexOf(target);
+        int row = targetIndex * size;
+        if (costs[row + current] == ShortestPathTree.UNREACHABLE) {
+            throw new PathNotFoundException();
+        }
+
+        List<Station> stations = new ArrayList<>();
+        List<Section> sections = new ArrayList<>();
+        stations.add(graph.getStation(current));
+        while (current != targetIndex) {
+            int edge = nextEdges[row + current];
+            sections.add(graph.section(edge));
+            current = graph.opposite(edge, current);
+            stations.add(graph.getStation(current));
+        }
+        return new PathResult(new Stations(stations), new Sections(sections));
+    }
+}
@@ -0,0 +1,143 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.station.domain.Station;
+
+import java.util.Arrays;
+
+/**
+ * 랜드마크(landmark)와 삼각 부등식을 이용한 A* 탐색(ALT).
+ * 미리 고른 랜드마크 L 로부터 모든 역까지의 비용을 구해 두면 |d(L, t) - d(L, v)| 가 v 에서 t 까지 비용의 하한이 되므로
+ * 이를 휴리스틱으로 써서 도착역 방향의 역부터 탐색한다.
+ */
+public class AltPathFinder implements PathFinder {
+    private final CsrGraph graph;
+    private final int landmarkCount;
+    private final int[] landmarks;
+    private final int[] landmarkDistances;
+
+    public AltPathFinder(CsrGraph graph, int landmarkCount) {
+        this.graph = graph;
+        this.landmarkCount = Math.min(landmarkCount, graph.size());
+        this.landmarks = new int[this.landmarkCount];
+        this.landmarkDistances = new int[this.landmarkCount * graph.size()];
+        selectLandmarks();
+    }
+
+    private AltPathFinder(CsrGraph graph, AltPathFinder previous) {
+        this.graph = graph;
+        this.landmarkCount = previous.landmarkCount;
+        this.landmarks = previous.landmarks;
+        this.landmarkDistances = previous.landmarkDistances;
+    }
+
+    /**
+     * 구간을 지우거나 비용을 늘리기만 한 그래프(CsrGraph.isCostNotLoweredFrom)에서는 이전 랜드마크 비용이 여전히 하한이고
+     * 간선 하나를 지날 때 바뀌는 폭도 새 비용 이하이므로, 랜드마크를 다시 고르지 않고 새 그래프에서 탐색한다.
+     */
+    public AltPathFinder withGraph(CsrGraph graph) {
+        return new AltPathFinder(graph, this);
+    }
+
+    /**
+     * 이미 고른 랜드마크들에서 가장 멀리 떨어진 역을 다음 랜드마크로 고른다.
+     */
+    private void selectLandmarks() {
+        if (landmarkCount == 0) {
+            return;
+        }
+
+        DijkstraPathFinder dijkstra = new DijkstraPathFinder(graph);
+        int[] nearest = new int[graph.size()];
+        Arrays.fill(nearest, ShortestPathTree.UNREACHABLE);
+        int candidate = farthestFrom(dijkstra.findTree(0));
+        for (int i = 0; i < landmarkCount; i++) {
+            landmarks[i] = candidate;
+            ShortestPathTree tree = dijkstra.findTree(candidate);
+            for (int station = 0; station < graph.size(); station++) {
+                int distance = tree.distanceOf(station);
+                landmarkDistances[station * landmarkCount + i] = distance;
+                if (tree.isReachable(station)) {
+                    nearest[station] = Math.min(nearest[station], distance);
+                }
+            }
+            candidate = farthestUnselected(nearest);
+        }
+    }
+
+    private int farthestFrom(ShortestPathTree tree) {
+        int farthest = tree.getRoot();
+        for (int station = 0; station < graph.size(); station++) {
+            if (tree.isReachable(station) && tree.distanceOf(station) > tree.distanceOf(farthest)) {
+                farthest = station;
+            }
+        }
+        return farthest;
+    }
+
+    private int farthestUnselected(int[] nearest) {
+        // 아직 어느 랜드마크에서도 닿지 않는 역(다른 연결 요소)이 있다면 그 역을 먼저 고른다
+        int farthest = 0;
+        for (int station = 0; station < graph.size(); station++) {
+            if (nearest[station] > nearest[farthest]) {
+                farthest = station;
+            }
+        }
+        return farthest;
+    }
+
+    public int[] getLandmarks() {
+        return landmarks.clone();
+    }
+
+    @Override
+    public PathResult findPath(Station source, Station target) {
+        int sourceIndex = graph.indexOf(source);
+        int targetIndex = graph.indexOf(target);
+        if (sourceIndex == CsrGraph.NO_STATION || targetIndex == CsrGraph.NO_STATION) {
+            throw new RuntimeException("노선에 등록되지 않은 역입니다.");
+        }
+
+        // 휴리스틱이 일관적(consistent)이므로 키는 줄어들지 않지만, 한 번에 최대 간선 비용의 두 배까지 벌어질 수 있다
+        SearchScratch scratch = SearchScratch.forCurrentThread(SearchScratch.FORWARD, graph.size(), graph.maxWeight() * 2);
+        IntPriorityQueue queue = scratch.getQueue();
+        int settledCount = 0;
+        scratch.reach(sourceIndex, 0, CsrGraph.NO_EDGE);
+        queue.insertOrDecrease(sourceIndex, lowerBound(sourceIndex, targetIndex));
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            settledCount++;
+            SearchCancellation.checkpoint(settledCount);
+            if (current == targetIndex) {
+                return graph.toPathResult(sourceIndex, targetIndex, scratch.getParentEdges(), settledCount);
+            }
+            scratch.settle(current);
+
+            int currentDistance = scratch.distanceOf(current);
+            for (int edge = graph.firstEdge(current); edge < graph.lastEdge(current); edge++) {
+                int next = graph.target(edge);
+                int distance = currentDistance + graph.weight(edge);
+                if (!scratch.isSettled(next) && distance < scratch.distanceOf(next)) {
+                    scratch.reach(next, distance, edge);
+                    queue.insertOrDecrease(next, distance + lowerBound(next, targetIndex));
+                }
+            }
+        }
+
+        throw new PathNotFoundException();
+    }
+
+    private int lowerBound(int station, int target) {
+        int bound = 0;
+        int stationOffset = station * landmarkCount;
+        int targetOffset = target * landmarkCount;
+        for (int i = 0; i < landmarkCount; i++) {
+            int stationDistance = landmarkDistances[stationOffset + i];
+            int targetDistance = landmarkDistances[targetOffset + i];
+            if (stationDistance == ShortestPathTree.UNREACHABLE || targetDistance == ShortestPathTree.UNREACHABLE) {
+                continue;
+            }
+            bound = Math.max(bound, Math.abs(targetDistance - stationDistance));
+        }
+        return bound;
+    }
+}
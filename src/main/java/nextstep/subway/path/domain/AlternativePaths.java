@@ -0,0 +1,42 @@
+package nextstep.subway.path.domain;
+
+import java.util.List;
+
+/**
+ * 짧은 순서로 놓인 대안 경로들과 이를 찾는 데 든 작업량.
+ */
+public class AlternativePaths {
+    private final List<PathResult> paths;
+    private final int settledCount;
+    private final int spurSearchCount;
+    private final int prunedSpurCount;
+    private final boolean truncated;
+
+    public AlternativePaths(List<PathResult> paths, int settledCount, int spurSearchCount, int prunedSpurCount, boolean truncated) {
+        this.paths = paths;
+        this.settledCount = settledCount;
+        this.spurSearchCount = spurSearchCount;
+        this.prunedSpurCount = prunedSpurCount;
+        this.truncated = truncated;
+    }
+
+    public List<PathResult> getPaths() {
+        return paths;
+    }
+
+    public int getSettledCount() {
+        return settledCount;
+    }
+
+    public int getSpurSearchCount() {
+        return spurSearchCount;
+    }
+
+    public int getPrunedSpurCount() {
+        return prunedSpurCount;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
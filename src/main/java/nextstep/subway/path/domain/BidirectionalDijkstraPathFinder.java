@@ -0,0 +1,110 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.station.domain.Station;
+
+import java.util.Arrays;
+
+/**
+ * 출발역에서 정방향으로, 도착역에서 역방향으로 동시에 탐색하는 다익스트라.
+ * 구간은 양방향이므로 두 방향 모두 같은 인접 배열을 사용한다.
+ * 두 큐의 최솟값 합이 지금까지 찾은 최단 비용 이상이 되면 더 짧은 경로가 없으므로 탐색을 멈춘다.
+ */
+public class BidirectionalDijkstraPathFinder implements PathFinder {
+    private final CsrGraph graph;
+
+    public BidirectionalDijkstraPathFinder(CsrGraph graph) {
+        this.graph = graph;
+    }
+
+    @Override
+    public PathResult findPath(Station source, Station target) {
+        int sourceIndex = graph.indexOf(source);
+        int targetIndex = graph.indexOf(target);
+        if (sourceIndex == CsrGraph.NO_STATION || targetIndex == CsrGraph.NO_STATION) {
+            throw new RuntimeException("노선에 등록되지 않은 역입니다.");
+        }
+
+        Frontier forward = new Frontier(graph.size(), graph.maxWeight(), sourceIndex);
+        Frontier backward = new Frontier(graph.size(), graph.maxWeight(), targetIndex);
+        int bestDistance = sourceIndex == targetIndex ? 0 : ShortestPathTree.UNREACHABLE;
+        int meeting = sourceIndex;
+        int settledCount = 0;
+
+        while (!forward.queue.isEmpty() && !backward.queue.isEmpty()
+                && (long) forward.queue.peekKey() + backward.queue.peekKey() < bestDistance) {
+            Frontier frontier = forward.queue.peekKey() <= backward.queue.peekKey() ? forward : backward;
+            Frontier opposite = frontier == forward ? backward : forward;
+
+            int current = frontier.queue.poll();
+            frontier.settled[current] = true;
+            settledCount++;
+            SearchCancellation.checkpoint(settledCount);
+
+            for (int edge = graph.firstEdge(current); edge < graph.lastEdge(current); edge++) {
+                int next = graph.target(edge);
+                int distance = frontier.distances[current] + graph.weight(edge);
+                if (frontier.settled[next] || distance >= frontier.distances[next]) {
+                    continue;
+                }
+                frontier.distances[next] = distance;
+                frontier.parentEdges[next] = edge;
+                frontier.queue.insertOrDecrease(next, distance);
+
+                if (opposite.distances[next] != ShortestPathTree.UNREACHABLE
+                        && distance + opposite.distances[next] < bestDistance) {
+                    bestDistance = distance + opposite.distances[next];
+                    meeting = next;
+                }
+            }
+        }
+
+        if (bestDistance == ShortestPathTree.UNREACHABLE) {
+            throw new PathNotFoundException();
+        }
+        return graph.toPathResult(sourceIndex, joinEdges(sourceIndex, targetIndex, meeting, forward, backward), settledCount);
+    }
+
+    private int[] joinEdges(int source, int target, int meeting, Frontier forward, Frontier backward) {
+        int forwardLength = countEdges(source, meeting, forward.parentEdges);
+        int backwardLength = countEdges(target, meeting, backward.parentEdges);
+        int[] pathEdges = new int[forwardLength + backwardLength];
+
+        int current = meeting;
+        for (int i = forwardLength - 1; i >= 0; i--) {
+            pathEdges[i] = forward.parentEdges[current];
+            current = graph.opposite(pathEdges[i], current);
+        }
+        current = meeting;
+        for (int i = forwardLength; i < pathEdges.length; i++) {
+            pathEdges[i] = backward.parentEdges[current];
+            current = graph.opposite(pathEdges[i], current);
+        }
+        return pathEdges;
+    }
+
+    private int countEdges(int root, int station, int[] parentEdges) {
+        int length = 0;
+        for (int current = station; current != root; current = graph.opposite(parentEdges[current], current)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static class Frontier {
+        private final int[] distances;
+        private final int[] parentEdges;
+        private final boolean[] settled;
+        private final IntPriorityQueue queue;
+
+        private Frontier(int size, int maxWeight, int root) {
+            this.distances = new int[size];
+            this.parentEdges = new int[size];
+            this.settled = new boolean[size];
+            this.queue = IntPriorityQueue.create(size, maxWeight);
+            Arrays.fill(distances, ShortestPathTree.UNREACHABLE);
+            Arrays.fill(parentEdges, CsrGraph.NO_EDGE);
+            distances[root] = 0;
+            queue.insertOrDecrease(root, 0);
+        }
+    }
+}
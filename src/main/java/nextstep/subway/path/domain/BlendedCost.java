@@ -0,0 +1,41 @@
+package nextstep.subway.path.domain;
+
+/**
+ * 구간 비용을 거리와 소요 시간의 가중합(distanceWeight * 거리 + durationWeight * 소요 시간)으로 계산한다.
+ * 간선마다 거리와 소요 시간을 모두 가진 그래프에서 탐색 중에 계산하므로 계수마다 그래프를 만들지 않는다.
+ */
+public class BlendedCost {
+    private final int distanceWeight;
+    private final int durationWeight;
+
+    public BlendedCost(int distanceWeight, int durationWeight) {
+        if (distanceWeight < 0 || durationWeight < 0 || distanceWeight + durationWeight == 0) {
+            throw new RuntimeException("비용 계수는 0 이상이어야 하고, 둘 다 0일 수는 없습니다.");
+        }
+        this.distanceWeight = distanceWeight;
+        this.durationWeight = durationWeight;
+    }
+
+    public int costOf(CsrGraph graph, int edge) {
+        return distanceWeight * graph.distance(edge) + durationWeight * graph.duration(edge);
+    }
+
+    /**
+     * 가장 긴 경로의 비용도 int 범위를 넘지 않는지 확인한 뒤 간선 하나의 최대 비용을 돌려준다.
+     */
+    public int maxCostOf(CsrGraph graph) {
+        long maxCost = (long) distanceWeight * graph.maxDistance() + (long) durationWeight * graph.maxDuration();
+        if (maxCost * Math.max(graph.size(), 1) > Integer.MAX_VALUE) {
+            throw new RuntimeException("비용 계수가 너무 큽니다.");
+        }
+        return (int) maxCost;
+    }
+
+    public int getDistanceWeight() {
+        return distanceWeight;
+    }
+
+    public int getDurationWeight() {
+        return durationWeight;
+    }
+}
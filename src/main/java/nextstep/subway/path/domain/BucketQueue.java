@@ -0,0 +1,117 @@
+package nextstep.subway.path.domain;
+
+import java.util.Arrays;
+
+/**
+ * 다익스트라처럼 꺼내는 키가 줄어들지 않는 탐색을 위한 Dial 버킷 큐.
+ * 큐에 들어 있는 키는 항상 [최솟값, 최솟값 + 최대 간선 비용] 범위에 있으므로 (최대 간선 비용 + 1)개의 버킷을 원형으로 돌려 쓴다.
+ * 같은 버킷 안에서는 먼저 들어온 역을 먼저 꺼낸다.
+ */
+public class BucketQueue implements IntPriorityQueue {
+    public static final int MAX_WEIGHT = 1 << 16;
+    private static final int NONE = -1;
+
+    private final int[] heads;
+    private final int[] tails;
+    private final int[] nexts;
+    private final int[] previouses;
+    private final int[] keys;
+    private final boolean[] queued;
+    private int size;
+    private int cursor;
+
+    public BucketQueue(int capacity, int maxWeight) {
+        this.heads = new int[maxWeight + 1];
+        this.tails = new int[maxWeight + 1];
+        this.nexts = new int[capacity];
+        this.previouses = new int[capacity];
+        this.keys = new int[capacity];
+        this.queued = new boolean[capacity];
+        Arrays.fill(heads, NONE);
+        Arrays.fill(tails, NONE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void insertOrDecrease(int node, int key) {
+        if (queued[node]) {
+            if (key >= keys[node]) {
+                return;
+            }
+            unlink(node);
+        } else {
+            queued[node] = true;
+            size++;
+        }
+
+        if (size == 1 || key < cursor) {
+            cursor = key;
+        }
+        keys[node] = key;
+        append(node);
+    }
+
+    @Override
+    public int peekKey() {
+        advance();
+        return cursor;
+    }
+
+    @Override
+    public int poll() {
+        advance();
+        int node = heads[bucketOf(cursor)];
+        unlink(node);
+        queued[node] = false;
+        size--;
+        return node;
+    }
+
+    @Override
+    public void clear() {
+        while (!isEmpty()) {
+            poll();
+        }
+        cursor = 0;
+    }
+
+    private void advance() {
+        while (heads[bucketOf(cursor)] == NONE) {
+            cursor++;
+        }
+    }
+
+    private int bucketOf(int key) {
+        return key % heads.length;
+    }
+
+    private void append(int node) {
+        int bucket = bucketOf(keys[node]);
+        nexts[node] = NONE;
+        previouses[node] = tails[bucket];
+        if (tails[bucket] == NONE) {
+            heads[bucket] = node;
+        } else {
+            nexts[tails[bucket]] = node;
+        }
+        tails[bucket] = node;
+    }
+
+    private void unlink(int node) {
+        int bucket = bucketOf(keys[node]);
+        if (previouses[node] == NONE) {
+            heads[bucket] = nexts[node];
+        } else {
+            nexts[previouses[node]] = nexts[node];
+        }
+        if (nexts[node] == NONE) {
+            tails[bucket] = previouses[node];
+        } else {
+            previouses[nexts[node]] = previouses[node];
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.station.domain.Station;
+
+/**
+ * Contraction Hierarchies 질의.
+ * 출발역과 도착역 양쪽에서 순위가 높은 역으로 향하는 간선만 따라 탐색하고, 두 탐색이 만나는 역 중 비용이 가장 작은 곳을 고른다.
+ * 찾은 경로의 지름길은 원래 구간이 나올 때까지 풀어서 PathResult 를 만든다.
+ */
+public class ContractionHierarchy implements PathFinder {
+    private final CsrGraph graph;
+    private final int[] ranks;
+
+    private final int[] edgeFroms;
+    private final int[] edgeTos;
+    private final int[] edgeFirsts;
+    private final int[] edgeSeconds;
+    private final int[] edgeMiddles;
+    private final int[] edgeOriginals;
+    private final int[] edgeHops;
+    private int shortcutCount;
+
+    private final int[] upOffsets;
+    private final int[] upTargets;
+    private final int[] upWeights;
+    private final int[] upEdges;
+    private int upMaxWeight;
+
+    public ContractionHierarchy(CsrGraph graph, int[] ranks, int[][] upwardEdges, int edgeCount,
+                                int[] edgeFroms, int[] edgeTos, int[] edgeWeights,
+                                int[] edgeFirsts, int[] edgeSeconds, int[] edgeMiddles, int[] edgeOriginals) {
+        this.graph = graph;
+        this.ranks = ranks;
+        this.edgeFroms = edgeFroms;
+        this.edgeTos = edgeTos;
+        this.edgeFirsts = edgeFirsts;
+        this.edgeSeconds = edgeSeconds;
+        this.edgeMiddles = edgeMiddles;
+        this.edgeOriginals = edgeOriginals;
+
+        // 지름길은 항상 자신을 이루는 간선보다 나중에 만들어지므로 앞에서부터 구간 수를 누적할 수 있다
+        this.edgeHops = new int[edgeCount];
+        for (int edge = 0; edge < edgeCount; edge++) {
+            if (edgeOriginals[edge] != CsrGraph.NO_EDGE) {
+                edgeHops[edge] = 1;
+                continue;
+            }
+            edgeHops[edge] = edgeHops[edgeFirsts[edge]] + edgeHops[edgeSeconds[edge]];
+            shortcutCount++;
+        }
+
+        int size = graph.size();
+        this.upOffsets = new int[size + 1];
+        for (int station = 0; station < size; station++) {
+            upOffsets[station + 1] = upOffsets[station] + upwardEdges[station].length;
+        }
+        this.upTargets = new int[upOffsets[size]];
+        this.upWeights = new int[upOffsets[size]];
+        this.upEdges = new int[upOffsets[size]];
+        for (int station = 0; station < size; station++) {
+            int position = upOffsets[station];
+            for (int edge : upwardEdges[station]) {
+                upTargets[position] = edgeFroms[edge] == station ? edgeTos[edge] : edgeFroms[edge];
+                upWeights[position] = edgeWeights[edge];
+                upEdges[position] = edge;
+                upMaxWeight = Math.max(upMaxWeight, edgeWeights[edge]);
+                position++;
+            }
+        }
+    }
+
+    private ContractionHierarchy(CsrGraph graph, ContractionHierarchy previous) {
+        this.graph = graph;
+        this.ranks = previous.ranks;
+        this.edgeFroms = previous.edgeFroms;
+        this.edgeTos = previous.edgeTos;
+        this.edgeFirsts = previous.edgeFirsts;
+        this.edgeSeconds = previous.edgeSeconds;
+        this.edgeMiddles = previous.edgeMiddles;
+        this.edgeOriginals = previous.edgeOriginals;
+        this.edgeHops = previous.edgeHops;
+        this.shortcutCount = previous.shortcutCount;
+        this.upOffsets = previous.upOffsets;
+        this.upTargets = previous.upTargets;
+        this.upWeights = previous.upWeights;
+        this.upEdges = previous.upEdges;
+        this.upMaxWeight = previous.upMaxWeight;
+    }
+
+    /**
+     * 지름길과 위로 향하는 간선은 원래 간선 번호와 비용으로 만들어졌으므로, 둘 다 그대로인 그래프(CsrGraph.hasSameCostsAs)에서만
+     * 다시 전처리하지 않고 옮겨 쓸 수 있다. 비용이 하나라도 바뀌면 지름길을 만들 때 확인한 우회 경로가 달라질 수 있어 옮길 수 없다.
+     */
+    public ContractionHierarchy withGraph(CsrGraph graph) {
+        return new ContractionHierarchy(graph, this);
+    }
+
+    public CsrGraph getGraph() {
+        return graph;
+    }
+
+    public int rankOf(int station) {
+        return ranks[station];
+    }
+
+    public int firstUpwardEdge(int station) {
+        return upOffsets[station];
+    }
+
+    public int lastUpwardEdge(int station) {
+        return upOffsets[station + 1];
+    }
+
+    public int upwardTarget(int upwardEdge) {
+        return upTargets[upwardEdge];
+    }
+
+    public int upwardWeight(int upwardEdge) {
+        return upWeights[upwardEdge];
+    }
+
+    public int getShortcutCount() {
+        return shortcutCount;
+    }
+
+    @Override
+    public PathResult findPath(Station source, Station target) {
+        int sourceIndex = graph.indexOf(source);
+        int targetIndex = graph.indexOf(target);
+        if (sourceIndex == CsrGraph.NO_STATION || targetIndex == CsrGraph.NO_STATION) {
+            throw new RuntimeException("노선에 등록되지 않은 역입니다.");
+        }
+
+        SearchScratch forward = SearchScratch.forCurrentThread(SearchScratch.FORWARD, graph.size(), upMaxWeight);
+        SearchScratch backward = SearchScratch.forCurrentThread(SearchScratch.BACKWARD, graph.size(), upMaxWeight);
+        forward.reach(sourceIndex, 0, CsrGraph.NO_EDGE);
+        forward.getQueue().insertOrDecrease(sourceIndex, 0);
+        backward.reach(targetIndex, 0, CsrGraph.NO_EDGE);
+        backward.getQueue().insertOrDecrease(targetIndex, 0);
+
+        int bestDistance = sourceIndex == targetIndex ? 0 : ShortestPathTree.UNREACHABLE;
+        int meeting = sourceIndex;
+        int settledCount = 0;
+        while (true) {
+            boolean forwardActive = isActive(forward, bestDistance);
+            boolean backwardActive = isActive(backward, bestDistance);
+            if (!forwardActive && !backwardActive) {
+                break;
+            }
+            boolean forwardTurn = forwardActive
+                    && (!backwardActive || forward.getQueue().peekKey() <= backward.getQueue().peekKey());
+            SearchScratch scratch = forwardTurn ? forward : backward;
+            SearchScratch opposite = forwardTurn ? backward : forward;
+
+            int current = scratch.getQueue().poll();
+            scratch.settle(current);
+            settledCount++;
+            SearchCancellation.checkpoint(settledCount);
+            int currentDistance = scratch.distanceOf(current);
+            for (int position = upOffsets[current]; position < upOffsets[current + 1]; position++) {
+                int next = upTargets[position];
+                int distance = currentDistance + upWeights[position];
+                if (distance >= scratch.distanceOf(next)) {
+                    continue;
+                }
+                scratch.reach(next, distance, upEdges[position]);
+                scratch.getQueue().insertOrDecrease(next, distance);
+
+                int oppositeDistance = opposite.distanceOf(next);
+                if (oppositeDistance != ShortestPathTree.UNREACHABLE && distance + oppositeDistance < bestDistance) {
+                    bestDistance = distance + oppositeDistance;
+                    meeting = next;
+                }
+            }
+        }
+
+        if (bestDistance == ShortestPathTree.UNREACHABLE) {
+            throw new PathNotFoundException();
+        }
+        return graph.toPathResult(sourceIndex, unpackPath(sourceIndex, targetIndex, meeting, forward, backward), settledCount);
+    }
+
+    private boolean isActive(SearchScratch scratch, int bestDistance) {
+        return !scratch.getQueue().isEmpty() && scratch.getQueue().peekKey() < bestDistance;
+    }
+
+    private int[] unpackPath(int source, int target, int meeting, SearchScratch forward, SearchScratch backward) {
+        int forwardLength = 0;
+        int hops = 0;
+        for (int current = meeting; current != source; current = otherEnd(forward.getParentEdges()[current], current)) {
+            forwardLength++;
+            hops += edgeHops[forward.getParentEdges()[current]];
+        }
+        int[] forwardEdges = new int[forwardLength];
+        int current = meeting;
+        for (int i = forwardLength - 1; i >= 0; i--) {
+            forwardEdges[i] = forward.getParentEdges()[current];
+            current = otherEnd(forwardEdges[i], current);
+        }
+        for (current = meeting; current != target; current = otherEnd(backward.getParentEdges()[current], current)) {
+            hops += edgeHops[backward.getParentEdges()[current]];
+        }
+
+        int[] pathEdges = new int[hops];
+        int position = 0;
+        current = source;
+        for (int edge : forwardEdges) {
+            position = unpack(edge, current, pathEdges, position);
+            current = otherEnd(edge, current);
+        }
+        while (current != target) {
+            int edge = backward.getParentEdges()[current];
+            position = unpack(edge, current, pathEdges, position);
+            current = otherEnd(edge, current);
+        }
+        return pathEdges;
+    }
+
+    private int unpack(int edge, int start, int[] pathEdges, int position) {
+        if (edgeOriginals[edge] != CsrGraph.NO_EDGE) {
+            pathEdges[position] = edgeOriginals[edge];
+            return position + 1;
+        }
+        if (start == edgeFroms[edge]) {
+            position = unpack(edgeFirsts[edge], start, pathEdges, position);
+            return unpack(edgeSeconds[edge], edgeMiddles[edge], pathEdges, position);
+        }
+        position = unpack(edgeSeconds[edge], start, pathEdges, position);
+        return unpack(edgeFirsts[edge], edgeMiddles[edge], pathEdges, position);
+    }
+
+    private int otherEnd(int edge, int station) {
+        return edgeFroms[edge] == station ? edgeTos[edge] : edgeFroms[edge];
+    }
+}
@@ -0,0 +1,265 @@
+package nextstep.subway.path.domain;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+/**
+ * 중요도가 낮은 역부터 하나씩 축약하며 지름길(shortcut) 간선을 추가해 Contraction Hierarchies 를 만든다.
+ * 역 v 를 축약할 때 이웃 u, w 사이에 v 를 거치지 않는 같거나 짧은 경로(witness)가 없으면 u-v-w 지름길을 추가한다.
+ * 지름길은 자신이 이어 붙인 두 간선을 기억하므로 나중에 실제 구간 목록으로 풀어낼 수 있다.
+ */
+public class ContractionHierarchyBuilder {
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+    private static final int NONE = -1;
+
+    private final CsrGraph graph;
+    private final int size;
+
+    private int edgeCount;
+    private int[] edgeFroms;
+    private int[] edgeTos;
+    private int[] edgeWeights;
+    private int[] edgeFirsts;
+    private int[] edgeSeconds;
+    private int[] edgeMiddles;
+    private int[] edgeOriginals;
+
+    private final int[][] adjacentEdges;
+    private final int[] degrees;
+    private final int[][] upwardEdges;
+    private final boolean[] contracted;
+    private final int[] contractedNeighbors;
+    private final int[] ranks;
+
+    private final int[] witnessDistances;
+    private final int[] witnessEpochs;
+    private final IndexedBinaryHeap witnessQueue;
+    private int witnessEpoch;
+
+    public ContractionHierarchyBuilder(CsrGraph graph) {
+        this.graph = graph;
+        this.size = graph.size();
+        int capacity = Math.max(16, graph.edgeCount());
+        this.edgeFroms = new int[capacity];
+        this.edgeTos = new int[capacity];
+        this.edgeWeights = new int[capacity];
+        this.edgeFirsts = new int[capacity];
+        this.edgeSeconds = new int[capacity];
+        this.edgeMiddles = new int[capacity];
+        this.edgeOriginals = new int[capacity];
+
+        this.adjacentEdges = new int[size][];
+        this.degrees = new int[size];
+        this.upwardEdges = new int[size][];
+        this.contracted = new boolean[size];
+        this.contractedNeighbors = new int[size];
+        this.ranks = new int[size];
+
+        this.witnessDistances = new int[size];
+        this.witnessEpochs = new int[size];
+        this.witnessQueue = new IndexedBinaryHeap(size);
+    }
+
+    public ContractionHierarchy build() {
+        addOriginalEdges();
+        contractAll();
+        return new ContractionHierarchy(graph, ranks, upwardEdges, edgeCount,
+                edgeFroms, edgeTos, edgeWeights, edgeFirsts, edgeSeconds, edgeMiddles, edgeOriginals);
+    }
+
+    private void addOriginalEdges() {
+        for (int station = 0; station < size; station++) {
+            adjacentEdges[station] = new int[Math.max(4, graph.lastEdge(station) - graph.firstEdge(station))];
+        }
+
+        // 같은 두 역을 잇는 구간이 여러 개라면 가장 짧은 구간만 남긴다
+        for (int station = 0; station < size; station++) {
+            for (int edge = graph.firstEdge(station); edge < graph.lastEdge(station); edge++) {
+                int target = graph.target(edge);
+                if (station < target) {
+                    addEdge(station, target, graph.weight(edge), NONE, NONE, NONE, edge);
+                }
+            }
+        }
+    }
+
+    private void contractAll() {
+        PriorityQueue<int[]> order = new PriorityQueue<>((a, b) -> a[0] != b[0] ? Integer.compare(a[0], b[0]) : Integer.compare(a[1], b[1]));
+        int[] priorities = new int[size];
+        for (int station = 0; station < size; station++) {
+            priorities[station] = priorityOf(station);
+            order.add(new int[]{priorities[station], station});
+        }
+
+        int rank = 0;
+        while (!order.isEmpty()) {
+            int[] top = order.poll();
+            int station = top[1];
+            if (contracted[station] || top[0] != priorities[station]) {
+                continue;
+            }
+
+            // 다른 역의 축약으로 우선순위가 올라갔다면 다시 줄을 세운다
+            int priority = priorityOf(station);
+            if (priority > top[0] && !order.isEmpty() && priority > order.peek()[0]) {
+                priorities[station] = priority;
+                order.add(new int[]{priority, station});
+                continue;
+            }
+
+            contract(station);
+            ranks[station] = rank++;
+            for (int i = 0; i < degrees[station]; i++) {
+                int neighbor = otherEnd(adjacentEdges[station][i], station);
+                contractedNeighbors[neighbor]++;
+                priorities[neighbor] = priorityOf(neighbor);
+                order.add(new int[]{priorities[neighbor], neighbor});
+            }
+        }
+    }
+
+    private int priorityOf(int station) {
+        return countShortcuts(station, false) - degrees[station] + contractedNeighbors[station];
+    }
+
+    private void contract(int station) {
+        countShortcuts(station, true);
+        contracted[station] = true;
+        upwardEdges[station] = Arrays.copyOf(adjacentEdges[station], degrees[station]);
+        for (int i = 0; i < degrees[station]; i++) {
+            int edge = adjacentEdges[station][i];
+            removeAdjacentEdge(otherEnd(edge, station), edge);
+        }
+    }
+
+    private int countShortcuts(int station, boolean apply) {
+        int degree = degrees[station];
+        int[] edges = Arrays.copyOf(adjacentEdges[station], degree);
+        int count = 0;
+        for (int i = 0; i < degree; i++) {
+            if (i == degree - 1) {
+                break;
+            }
+            int from = otherEnd(edges[i], station);
+            int maxCost = 0;
+            for (int j = i + 1; j < degree; j++) {
+                maxCost = Math.max(maxCost, edgeWeights[edges[i]] + edgeWeights[edges[j]]);
+            }
+
+            searchWitness(from, station, maxCost);
+            for (int j = i + 1; j < degree; j++) {
+                int to = otherEnd(edges[j], station);
+                int cost = edgeWeights[edges[i]] + edgeWeights[edges[j]];
+                if (witnessDistanceOf(to) <= cost) {
+                    continue;
+                }
+                count++;
+                if (apply) {
+                    addShortcut(from, to, cost, edges[i], edges[j], station);
+                }
+            }
+        }
+        return count;
+    }
+
+    private void searchWitness(int source, int excluded, int maxCost) {
+        witnessEpoch++;
+        witnessQueue.clear();
+        witnessEpochs[source] = witnessEpoch;
+        witnessDistances[source] = 0;
+        witnessQueue.insertOrDecrease(source, 0);
+
+        int settled = 0;
+        while (!witnessQueue.isEmpty() && witnessQueue.peekKey() <= maxCost && settled < WITNESS_SETTLE_LIMIT) {
+            int current = witnessQueue.poll();
+            settled++;
+            for (int i = 0; i < degrees[current]; i++) {
+                int edge = adjacentEdges[current][i];
+                int next = otherEnd(edge, current);
+                int distance = witnessDistances[current] + edgeWeights[edge];
+                if (next != excluded && distance < witnessDistanceOf(next)) {
+                    witnessEpochs[next] = witnessEpoch;
+                    witnessDistances[next] = distance;
+                    witnessQueue.insertOrDecrease(next, distance);
+                }
+            }
+        }
+    }
+
+    private int witnessDistanceOf(int station) {
+        if (witnessEpochs[station] != witnessEpoch) {
+            return ShortestPathTree.UNREACHABLE;
+        }
+        return witnessDistances[station];
+    }
+
+    private void addShortcut(int from, int to, int cost, int firstEdge, int secondEdge, int middle) {
+        addEdge(from, to, cost, firstEdge, secondEdge, middle, CsrGraph.NO_EDGE);
+    }
+
+    private void addEdge(int from, int to, int weight, int first, int second, int middle, int original) {
+        int existing = findAdjacentEdge(from, to);
+        if (existing != NONE) {
+            if (edgeWeights[existing] <= weight) {
+                return;
+            }
+            removeAdjacentEdge(from, existing);
+            removeAdjacentEdge(to, existing);
+        }
+
+        ensureEdgeCapacity();
+        int edge = edgeCount++;
+        edgeFroms[edge] = from;
+        edgeTos[edge] = to;
+        edgeWeights[edge] = weight;
+        edgeFirsts[edge] = first;
+        edgeSeconds[edge] = second;
+        edgeMiddles[edge] = middle;
+        edgeOriginals[edge] = original;
+        addAdjacentEdge(from, edge);
+        addAdjacentEdge(to, edge);
+    }
+
+    private int findAdjacentEdge(int station, int neighbor) {
+        for (int i = 0; i < degrees[station]; i++) {
+            if (otherEnd(adjacentEdges[station][i], station) == neighbor) {
+                return adjacentEdges[station][i];
+            }
+        }
+        return NONE;
+    }
+
+    private void addAdjacentEdge(int station, int edge) {
+        if (degrees[station] == adjacentEdges[station].length) {
+            adjacentEdges[station] = Arrays.copyOf(adjacentEdges[station], degrees[station] * 2);
+        }
+        adjacentEdges[station][degrees[station]++] = edge;
+    }
+
+    private void removeAdjacentEdge(int station, int edge) {
+        for (int i = 0; i < degrees[station]; i++) {
+            if (adjacentEdges[station][i] == edge) {
+                adjacentEdges[station][i] = adjacentEdges[station][--degrees[station]];
+                return;
+            }
+        }
+    }
+
+    private int otherEnd(int edge, int station) {
+        return edgeFroms[edge] == station ? edgeTos[edge] : edgeFroms[edge];
+    }
+
+    private void ensureEdgeCapacity() {
+        if (edgeCount < edgeFroms.length) {
+            return;
+        }
+        int capacity = edgeFroms.length * 2;
+        edgeFroms = Arrays.copyOf(edgeFroms, capacity);
+        edgeTos = Arrays.copyOf(edgeTos, capacity);
+        edgeWeights = Arrays.copyOf(edgeWeights, capacity);
+        edgeFirsts = Arrays.copyOf(edgeFirsts, capacity);
+        edgeSeconds = Arrays.copyOf(edgeSeconds, capacity);
+        edgeMiddles = Arrays.copyOf(edgeMiddles, capacity);
+        edgeOriginals = Arrays.copyOf(edgeOriginals, capacity);
+    }
+}
@@ -0,0 +1,873 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.line.domain.SectionDelta;
+import nextstep.subway.line.domain.SectionDeltaType;
+import nextstep.subway.line.domain.Sections;
+import nextstep.subway.station.domain.Station;
+import nextstep.subway.station.domain.Stations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 역을 0부터 시작하는 정수 인덱스로 바꾸고 간선을 압축 행(CSR) 배열로 보관하는 그래프.
+ * 역 i에서 나가는 간선은 targets[offsets[i]] ~ targets[offsets[i + 1] - 1] 이고,
+ * 구간은 양방향이므로 하나의 구간이 두 개의 간선으로 저장된다.
+ * 간선 비용은 경로 타입별 배열로 함께 보관하므로, 경로 타입이 다른 그래프도 같은 배열을 공유한다(withType).
+ */
+public class CsrGraph {
+    public static final int NO_STATION = -1;
+    public static final int NO_EDGE = -1;
+    public static final int NO_SECTION = -1;
+    // 비워 둔 역이나 구간 자리가 전체의 1/COMPACTION_RATIO 를 넘으면 압축한다
+    private static final int COMPACTION_RATIO = 4;
+
+    private final PathType type;
+    private final Station[] stations;
+    private final Map<Station, Integer> indexes;
+    private final Section[] sections;
+    private final int[] ups;
+    private final int[] downs;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] edgeSections;
+    private final int[][] typeWeights;
+    private final int[] maxTypeWeights;
+    private final int[] weights;
+    private final int[] distances;
+    private final int[] durations;
+    private final int maxWeight;
+    private final int[] components;
+    private final int componentLabelCount;
+    private final int deadStationCount;
+    private final int deadSectionCount;
+    private volatile Map<Long, Integer> sectionIndexes;
+
+    public CsrGraph(List<Line> lines, PathType type) {
+        this(type, distinctStationsOf(lines), sectionsOf(lines));
+    }
+
+    private CsrGraph(PathType type, Station[] stations, Section[] sections) {
+        this(type, stations, indexesOf(stations), sections);
+    }
+
+    private CsrGraph(PathType type, Station[] stations, Map<Station, Integer> indexes, Section[] sections) {
+        this(type, stations, indexes, sections,
+                endpointsOf(sections, indexes, Section::getUpStation), endpointsOf(sections, indexes, Section::getDownStation));
+    }
+
+    private CsrGraph(PathType type, Station[] stations, Map<Station, Integer> indexes, Section[] sections, int[] ups, int[] downs) {
+        this.type = type;
+        this.stations = stations;
+        this.indexes = indexes;
+        this.sections = sections;
+        this.ups = ups;
+        this.downs = downs;
+
+        this.offsets = new int[stations.length + 1];
+        for (int i = 0; i < sections.length; i++) {
+            offsets[ups[i] + 1]++;
+            offsets[downs[i] + 1]++;
+        }
+        for (int i = 0; i < stations.length; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        this.targets = new int[sections.length * 2];
+        this.edgeSections = new int[sections.length * 2];
+        int[] cursor = new int[stations.length];
+        System.arraycopy(offsets, 0, cursor, 0, stations.length);
+        for (int i = 0; i < sections.length; i++) {
+            addEdge(cursor[ups[i]]++, downs[i], i);
+            addEdge(cursor[downs[i]]++, ups[i], i);
+        }
+
+        this.typeWeights = new int[PathType.values().length][];
+        this.maxTypeWeights = new int[PathType.values().length];
+        for (PathType pathType : PathType.values()) {
+            int[] typeWeight = new int[targets.length];
+            for (int edge = 0; edge < targets.length; edge++) {
+                typeWeight[edge] = pathType.findWeightOf(sections[edgeSections[edge]]);
+                maxTypeWeights[pathType.ordinal()] = Math.max(maxTypeWeights[pathType.ordinal()], typeWeight[edge]);
+            }
+            typeWeights[pathType.ordinal()] = typeWeight;
+        }
+        this.weights = typeWeights[type.ordinal()];
+        this.maxWeight = maxTypeWeights[type.ordinal()];
+        this.distances = typeWeights[PathType.DISTANCE.ordinal()];
+        this.durations = typeWeights[PathType.DURATION.ordinal()];
+        this.components = componentsOf(stations.length, ups, downs);
+        this.componentLabelCount = stations.length;
+        this.deadStationCount = 0;
+        this.deadSectionCount = 0;
+    }
+
+    private CsrGraph(PathType type, Station[] stations, Map<Station, Integer> indexes, Section[] sections, int[] ups, int[] downs,
+                     int[] offsets, int[] targets, int[] edgeSections, int[][] typeWeights, int[] maxTypeWeights,
+                     int[] components, int componentLabelCount, int deadStationCount, int deadSectionCount) {
+        this.type = type;
+        this.stations = stations;
+        this.indexes = indexes;
+        this.sections = sections;
+        this.ups = ups;
+        this.downs = downs;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.edgeSections = edgeSections;
+        this.typeWeights = typeWeights;
+        this.maxTypeWeights = maxTypeWeights;
+        this.weights = typeWeights[type.ordinal()];
+        this.maxWeight = maxTypeWeights[type.ordinal()];
+        this.distances = typeWeights[PathType.DISTANCE.ordinal()];
+        this.durations = typeWeights[PathType.DURATION.ordinal()];
+        this.components = components;
+        this.componentLabelCount = componentLabelCount;
+        this.deadStationCount = deadStationCount;
+        this.deadSectionCount = deadSectionCount;
+    }
+
+    private CsrGraph(CsrGraph graph, PathType type) {
+        this.type = type;
+        this.stations = graph.stations;
+        this.indexes = graph.indexes;
+        this.sections = graph.sections;
+        this.ups = graph.ups;
+        this.downs = graph.downs;
+        this.offsets = graph.offsets;
+        this.targets = graph.targets;
+        this.edgeSections = graph.edgeSections;
+        this.typeWeights = graph.typeWeights;
+        this.maxTypeWeights = graph.maxTypeWeights;
+        this.weights = typeWeights[type.ordinal()];
+        this.maxWeight = maxTypeWeights[type.ordinal()];
+        this.distances = graph.distances;
+        this.durations = graph.durations;
+        this.components = graph.components;
+        this.componentLabelCount = graph.componentLabelCount;
+        this.deadStationCount = graph.deadStationCount;
+        this.deadSectionCount = graph.deadSectionCount;
+        this.sectionIndexes = graph.sectionIndexes;
+    }
+
+    /**
+     * 역, 간선과 경로 타입별 비용 배열은 그대로 공유하고 탐색에 쓸 비용 배열만 바꾼 그래프를 돌려준다.
+     */
+    public CsrGraph withType(PathType type) {
+        if (this.type == type) {
+            return this;
+        }
+        return new CsrGraph(this, type);
+    }
+
+    /**
+     * 구간으로 이어진 역끼리 같은 연결 요소 번호를 갖도록 union-find 로 묶는다.
+     * 그래프가 만들어질 때마다 다시 계산되므로 변경분을 반영한 그래프도 항상 최신 번호를 갖는다.
+     */
+    private static int[] componentsOf(int size, int[] ups, int[] downs) {
+        int[] parents = new int[size];
+        for (int i = 0; i < size; i++) {
+            parents[i] = i;
+        }
+        for (int i = 0; i < ups.length; i++) {
+            int up = rootOf(parents, ups[i]);
+            int down = rootOf(parents, downs[i]);
+            if (up != down) {
+                parents[Math.max(up, down)] = Math.min(up, down);
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            parents[i] = rootOf(parents, i);
+        }
+        return parents;
+    }
+
+    private static int rootOf(int[] parents, int station) {
+        while (parents[station] != station) {
+            parents[station] = parents[parents[station]];
+            station = parents[station];
+        }
+        return station;
+    }
+
+    private static Station[] distinctStationsOf(List<Line> lines) {
+        return lines.stream()
+                .flatMap(it -> it.getStations().stream())
+                .distinct()
+                .toArray(Station[]::new);
+    }
+
+    private static Section[] sectionsOf(List<Line> lines) {
+        return lines.stream()
+                .flatMap(it -> it.getSections().getSections().stream())
+                .toArray(Section[]::new);
+    }
+
+    private static Map<Station, Integer> indexesOf(Station[] stations) {
+        Map<Station, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < stations.length; i++) {
+            indexes.put(stations[i], i);
+        }
+        return indexes;
+    }
+
+    private static int[] endpointsOf(Section[] sections, Map<Station, Integer> indexes, Function<Section, Station> endpoint) {
+        int[] endpoints = new int[sections.length];
+        for (int i = 0; i < sections.length; i++) {
+            endpoints[i] = indexes.get(endpoint.apply(sections[i]));
+        }
+        return endpoints;
+    }
+
+    /**
+     * 구간 변경분을 반영한 새 그래프를 만든다. 노선 정보를 다시 읽거나 역을 다시 색인하지 않고,
+     * 바뀐 구간의 양 끝 역 행만 다시 쓰고 나머지 행은 통째로 복사한다. 비용만 바뀌면 간선 배열도 그대로 공유한다.
+     * 연결 요소는 구간이 더해지면 두 요소를 합치고, 구간이 빠지면 그 구간의 양 끝 역이 있던 요소만 다시 나눈다.
+     * 지운 구간과 구간이 모두 빠진 역은 자리만 비워 두고(indexOf 는 NO_STATION), 빈자리가 많아지면 한 번에 압축한다.
+     * 이 그래프는 바뀌지 않으므로 이전 버전을 읽고 있는 쪽에는 영향이 없고,
+     * 변경분은 구간 id 기준으로 덮어쓰므로 이미 반영된 변경분을 다시 적용해도 결과가 같다.
+     */
+    public CsrGraph apply(List<SectionDelta> deltas) {
+        Patch patch = new Patch(this, deltas.size());
+        for (SectionDelta delta : deltas) {
+            patch.apply(delta);
+        }
+        CsrGraph patched = patch.build();
+        if (patched.deadSectionCount * COMPACTION_RATIO > patched.sections.length
+                || patched.deadStationCount * COMPACTION_RATIO > patched.stations.length) {
+            return patched.compact();
+        }
+        return patched;
+    }
+
+    /**
+     * previous 에 비용만 바뀐 변경분을 반영한 그래프이고, 이 경로 타입의 비용도 그대로인지 확인한다.
+     * 역 번호, 간선 번호와 비용이 모두 같으므로 previous 로 만든 전처리 결과와 최단 경로 트리를 그대로 쓸 수 있다.
+     */
+    public boolean hasSameCostsAs(CsrGraph previous) {
+        return type == previous.type
+                && stations == previous.stations
+                && offsets == previous.offsets
+                && targets == previous.targets
+                && edgeSections == previous.edgeSections
+                && Arrays.equals(weights, previous.weights);
+    }
+
+    /**
+     * previous 에서 구간을 지우거나 이 경로 타입의 비용을 늘리기만 한 그래프인지 확인한다.
+     * 그렇다면 previous 에서 구한 두 역 사이의 비용은 이 그래프에서도 하한이므로, 그 비용으로 만든 휴리스틱을 그대로 쓸 수 있다.
+     * 구간 자리는 지워도 당기지 않으므로 같은 자리끼리 비교한다.
+     */
+    public boolean isCostNotLoweredFrom(CsrGraph previous) {
+        if (type != previous.type || stations != previous.stations || ups != previous.ups
+                || sections.length != previous.sections.length) {
+            return false;
+        }
+        for (int slot = 0; slot < sections.length; slot++) {
+            if (sections[slot] == null) {
+                continue;
+            }
+            if (previous.sections[slot] == null || type.findWeightOf(sections[slot]) < type.findWeightOf(previous.sections[slot])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 비워 둔 자리를 빼고 전체를 다시 만든다. 빈자리가 전체의 일정 비율을 넘을 때만 부르므로 드물다
+    private CsrGraph compact() {
+        List<Station> liveStations = new ArrayList<>();
+        for (int station = 0; station < stations.length; station++) {
+            if (offsets[station] < offsets[station + 1]) {
+                liveStations.add(stations[station]);
+            }
+        }
+        Section[] liveSections = Arrays.stream(sections)
+                .filter(Objects::nonNull)
+                .toArray(Section[]::new);
+        return new CsrGraph(type, liveStations.toArray(new Station[0]), liveSections);
+    }
+
+    private void addEdge(int edge, int target, int section) {
+        targets[edge] = target;
+        edgeSections[edge] = section;
+    }
+
+    public PathType getType() {
+        return type;
+    }
+
+    public int size() {
+        return stations.length;
+    }
+
+    public int indexOf(Station station) {
+        Integer index = indexes.get(station);
+        // 구간이 모두 빠진 역은 압축할 때까지 자리만 남아 있으므로 없는 역으로 본다
+        if (index == null || offsets[index] == offsets[index + 1]) {
+            return NO_STATION;
+        }
+        return index;
+    }
+
+    public int componentOf(int station) {
+        return components[station];
+    }
+
+    /**
+     * 두 역이 같은 연결 요소에 있는지 탐색 없이 확인한다. 노선에 등록되지 않은 역은 어느 역과도 연결되어 있지 않다.
+     */
+    public boolean isConnected(Station source, Station target) {
+        int sourceIndex = indexOf(source);
+        int targetIndex = indexOf(target);
+        if (sourceIndex == NO_STATION || targetIndex == NO_STATION) {
+            return false;
+        }
+        return components[sourceIndex] == components[targetIndex];
+    }
+
+    public int sectionCount() {
+        return sections.length;
+    }
+
+    /**
+     * 구간 id 로 찾는 일은 드물어서 처음 찾을 때 색인을 만든다. 동시에 만들어져도 결과가 같으므로 잠그지 않는다.
+     */
+    public int sectionIndexOf(Long sectionId) {
+        Map<Long, Integer> loaded = sectionIndexes;
+        if (loaded == null) {
+            loaded = new HashMap<>();
+            for (int i = 0; i < sections.length; i++) {
+                if (sections[i] != null && sections[i].getId() != null) {
+                    loaded.put(sections[i].getId(), i);
+                }
+            }
+            sectionIndexes = loaded;
+        }
+        return loaded.getOrDefault(sectionId, NO_SECTION);
+    }
+
+    public Section getSection(int sectionIndex) {
+        return sections[sectionIndex];
+    }
+
+    /**
+     * 지운 구간은 압축할 때까지 자리만 남아 있으므로 구간 번호를 차례로 훑을 때는 이 값으로 거른다.
+     */
+    public boolean hasSection(int sectionIndex) {
+        return sections[sectionIndex] != null;
+    }
+
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    public int maxWeight() {
+        return maxWeight;
+    }
+
+    public int maxDistance() {
+        return maxTypeWeights[PathType.DISTANCE.ordinal()];
+    }
+
+    public int maxDuration() {
+        return maxTypeWeights[PathType.DURATION.ordinal()];
+    }
+
+    public Station getStation(int index) {
+        return stations[index];
+    }
+
+    public int firstEdge(int station) {
+        return offsets[station];
+    }
+
+    public int lastEdge(int station) {
+        return offsets[station + 1];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    public int weight(int edge) {
+        return weights[edge];
+    }
+
+    public int distance(int edge) {
+        return distances[edge];
+    }
+
+    public int duration(int edge) {
+        return durations[edge];
+    }
+
+    public int sectionIndex(int edge) {
+        return edgeSections[edge];
+    }
+
+    public Section section(int edge) {
+        return sections[edgeSections[edge]];
+    }
+
+    /**
+     * 도착역에서 출발역까지 각 역에 도달한 간선(parentEdges)을 거슬러 올라가며 경로를 만든다.
+     */
+    public PathResult toPathResult(int source, int target, int[] parentEdges, int settledCount) {
+        int length = 0;
+        for (int current = target; current != source; current = opposite(parentEdges[current], current)) {
+            length++;
+        }
+
+        int[] pathEdges = new int[length];
+        int current = target;
+        for (int i = length - 1; i >= 0; i--) {
+            pathEdges[i] = parentEdges[current];
+            current = opposite(pathEdges[i], current);
+        }
+        return toPathResult(source, pathEdges, settledCount);
+    }
+
+    /**
+     * 출발역부터 순서대로 놓인 간선들(pathEdges)로 경로를 만든다.
+     */
+    public PathResult toPathResult(int source, int[] pathEdges, int settledCount) {
+        List<Station> pathStations = new ArrayList<>(pathEdges.length + 1);
+        List<Section> pathSections = new ArrayList<>(pathEdges.length);
+        int current = source;
+        pathStations.add(stations[current]);
+        for (int edge : pathEdges) {
+            pathSections.add(section(edge));
+            current = opposite(edge, current);
+            pathStations.add(stations[current]);
+        }
+        return new PathResult(new Stations(pathStations), new Sections(pathSections), settledCount);
+    }
+
+    public int opposite(int edge, int station) {
+        int section = edgeSections[edge];
+        if (ups[section] != station) {
+            return ups[section];
+        }
+        return downs[section];
+    }
+
+    /**
+     * 변경분은 구간 자리만 고쳐 두고, 간선 배열과 연결 요소는 build 에서 바뀐 행과 요소만 한 번에 다시 쓴다.
+     * 구간 자리는 지워도 당기지 않으므로 바뀌지 않은 간선의 구간 번호는 그대로 쓸 수 있다.
+     */
+    private static class Patch {
+        private final CsrGraph graph;
+        private final int capacity;
+        private Section[] sections;
+        private int[] ups;
+        private int[] downs;
+        private int sectionCount;
+        private Map<Station, Integer> indexes;
+        private final List<Station> addedStations = new ArrayList<>();
+        private final Map<Long, Integer> addedSlots = new HashMap<>();
+        private final List<Integer> removedSlots = new ArrayList<>();
+        private final BitSet changedSlots = new BitSet();
+        private final BitSet touchedRows = new BitSet();
+
+        private Patch(CsrGraph graph, int capacity) {
+            this.graph = graph;
+            this.capacity = graph.sections.length + capacity;
+            this.sections = graph.sections;
+            this.ups = graph.ups;
+            this.downs = graph.downs;
+            this.sectionCount = graph.sections.length;
+            this.indexes = graph.indexes;
+        }
+
+        private void apply(SectionDelta delta) {
+            Section section = delta.getSection();
+            int slot = findSlot(section);
+            if (delta.getType() == SectionDeltaType.REMOVED) {
+                if (slot != NO_SECTION) {
+                    remove(slot);
+                }
+                return;
+            }
+
+            if (slot == NO_SECTION) {
+                add(section);
+                return;
+            }
+            if (!sections[slot].getUpStation().equals(section.getUpStation())
+                    || !sections[slot].getDownStation().equals(section.getDownStation())) {
+                remove(slot);
+                add(section);
+                return;
+            }
+            writable();
+            sections[slot] = section;
+            changedSlots.set(slot);
+        }
+
+        // 구간은 양 끝 역의 행에 모두 들어 있으므로 상행역의 행만 훑으면 전체 구간을 훑지 않고 자리를 찾는다
+        private int findSlot(Section section) {
+            if (section.getId() == null) {
+                return NO_SECTION;
+            }
+            Integer added = addedSlots.get(section.getId());
+            if (added != null) {
+                return added;
+            }
+            Integer up = graph.indexes.get(section.getUpStation());
+            if (up == null) {
+                return NO_SECTION;
+            }
+            for (int edge = graph.offsets[up]; edge < graph.offsets[up + 1]; edge++) {
+                int slot = graph.edgeSections[edge];
+                if (sections[slot] != null && section.getId().equals(sections[slot].getId())) {
+                    return slot;
+                }
+            }
+            return NO_SECTION;
+        }
+
+        private void remove(int slot) {
+            writable();
+            if (sections[slot].getId() != null) {
+                addedSlots.remove(sections[slot].getId());
+            }
+            if (slot < graph.sections.length) {
+                removedSlots.add(slot);
+            }
+            sections[slot] = null;
+            changedSlots.clear(slot);
+            touchedRows.set(ups[slot]);
+            touchedRows.set(downs[slot]);
+        }
+
+        private void add(Section section) {
+            writableEndpoints();
+            int slot = sectionCount++;
+            sections[slot] = section;
+            ups[slot] = stationIndexOf(section.getUpStation());
+            downs[slot] = stationIndexOf(section.getDownStation());
+            touchedRows.set(ups[slot]);
+            touchedRows.set(downs[slot]);
+            if (section.getId() != null) {
+                addedSlots.put(section.getId(), slot);
+            }
+        }
+
+        private int stationIndexOf(Station station) {
+            Integer index = indexes.get(station);
+            if (index != null) {
+                return index;
+            }
+            if (indexes == graph.indexes) {
+                indexes = new HashMap<>(graph.indexes);
+            }
+            int added = graph.stations.length + addedStations.size();
+            indexes.put(station, added);
+            addedStations.add(station);
+            return added;
+        }
+
+        // 구간 배열은 이전 그래프와 공유하므로 처음 고칠 때 한 번만 복사한다. 양 끝 역 배열은 구간을 더할 때만 복사한다
+        private void writable() {
+            if (sections == graph.sections) {
+                sections = Arrays.copyOf(graph.sections, capacity);
+            }
+        }
+
+        private void writableEndpoints() {
+            writable();
+            if (ups == graph.ups) {
+                ups = Arrays.copyOf(graph.ups, capacity);
+                downs = Arrays.copyOf(graph.downs, capacity);
+            }
+        }
+
+        private CsrGraph build() {
+            if (touchedRows.isEmpty() && changedSlots.isEmpty()) {
+                return graph;
+            }
+
+            int size = graph.stations.length + addedStations.size();
+            Station[] nextStations = graph.stations;
+            if (!addedStations.isEmpty()) {
+                nextStations = Arrays.copyOf(graph.stations, size);
+                for (int i = 0; i < addedStations.size(); i++) {
+                    nextStations[graph.stations.length + i] = addedStations.get(i);
+                }
+            }
+            Section[] nextSections = trim(sections);
+            int[] nextUps = trim(ups);
+            int[] nextDowns = trim(downs);
+
+            int[] offsets = graph.offsets;
+            int[] targets = graph.targets;
+            int[] edgeSections = graph.edgeSections;
+            int[][] typeWeights = new int[PathType.values().length][];
+            if (touchedRows.isEmpty()) {
+                for (PathType pathType : PathType.values()) {
+                    typeWeights[pathType.ordinal()] = graph.typeWeights[pathType.ordinal()].clone();
+                }
+            } else {
+                offsets = new int[size + 1];
+                int edgeCount = graph.targets.length;
+                Map<Integer, List<Integer>> rowSlots = new HashMap<>();
+                for (int row = touchedRows.nextSetBit(0); row >= 0; row = touchedRows.nextSetBit(row + 1)) {
+                    List<Integer> slots = slotsOf(row);
+                    edgeCount += slots.size() - oldDegreeOf(row);
+                    rowSlots.put(row, slots);
+                }
+                targets = new int[edgeCount];
+                edgeSections = new int[edgeCount];
+                for (PathType pathType : PathType.values()) {
+                    typeWeights[pathType.ordinal()] = new int[edgeCount];
+                }
+
+                int position = 0;
+                int row = 0;
+                for (int touched = touchedRows.nextSetBit(0); touched >= 0; touched = touchedRows.nextSetBit(touched + 1)) {
+                    position = copyRows(row, touched, position, offsets, targets, edgeSections, typeWeights);
+                    offsets[touched] = position;
+                    for (int slot : rowSlots.get(touched)) {
+                        targets[position] = nextUps[slot] == touched ? nextDowns[slot] : nextUps[slot];
+                        edgeSections[position] = slot;
+                        for (PathType pathType : PathType.values()) {
+                            typeWeights[pathType.ordinal()][position] = pathType.findWeightOf(nextSections[slot]);
+                        }
+                        position++;
+                    }
+                    row = touched + 1;
+                }
+                position = copyRows(row, size, position, offsets, targets, edgeSections, typeWeights);
+                offsets[size] = position;
+            }
+
+            // 간선 자리가 그대로인 행에서 비용만 바뀐 구간의 간선을 고친다
+            for (int slot = changedSlots.nextSetBit(0); slot >= 0; slot = changedSlots.nextSetBit(slot + 1)) {
+                for (int row : new int[]{nextUps[slot], nextDowns[slot]}) {
+                    if (touchedRows.get(row)) {
+                        continue;
+                    }
+                    for (int edge = offsets[row]; edge < offsets[row + 1]; edge++) {
+                        if (edgeSections[edge] == slot) {
+                            for (PathType pathType : PathType.values()) {
+                                typeWeights[pathType.ordinal()][edge] = pathType.findWeightOf(nextSections[slot]);
+                            }
+                        }
+                    }
+                }
+            }
+
+            int deadStationCount = graph.deadStationCount;
+            for (int row = touchedRows.nextSetBit(0); row >= 0; row = touchedRows.nextSetBit(row + 1)) {
+                boolean wasDead = row < graph.stations.length && oldDegreeOf(row) == 0;
+                boolean isDead = offsets[row] == offsets[row + 1];
+                deadStationCount += (isDead ? 1 : 0) - (wasDead ? 1 : 0);
+            }
+
+            Components components = new Components(graph.components, graph.componentLabelCount, size, offsets, targets);
+            for (int slot = graph.sections.length; slot < sectionCount; slot++) {
+                if (nextSections[slot] != null) {
+                    components.union(nextUps[slot], nextDowns[slot]);
+                }
+            }
+            for (int slot : removedSlots) {
+                components.split(nextUps[slot], nextDowns[slot]);
+            }
+
+            return new CsrGraph(graph.type, nextStations, indexes, nextSections, nextUps, nextDowns, offsets, targets,
+                    edgeSections, typeWeights, maxTypeWeightsOf(nextSections, typeWeights), components.getLabels(),
+                    components.getLabelCount(), deadStationCount, graph.deadSectionCount + removedSlots.size());
+        }
+
+        private Section[] trim(Section[] array) {
+            return array.length == sectionCount ? array : Arrays.copyOf(array, sectionCount);
+        }
+
+        private int[] trim(int[] array) {
+            return array.length == sectionCount ? array : Arrays.copyOf(array, sectionCount);
+        }
+
+        // 행에 남은 기존 간선은 순서를 지키고, 이번에 더한 구간의 간선은 뒤에 붙인다
+        private List<Integer> slotsOf(int row) {
+            List<Integer> slots = new ArrayList<>();
+            if (row < graph.stations.length) {
+                for (int edge = graph.offsets[row]; edge < graph.offsets[row + 1]; edge++) {
+                    int slot = graph.edgeSections[edge];
+                    if (sections[slot] != null) {
+                        slots.add(slot);
+                    }
+                }
+            }
+            for (int slot = graph.sections.length; slot < sectionCount; slot++) {
+                if (sections[slot] != null && (ups[slot] == row || downs[slot] == row)) {
+                    slots.add(slot);
+                }
+            }
+            return slots;
+        }
+
+        private int oldDegreeOf(int row) {
+            if (row >= graph.stations.length) {
+                return 0;
+            }
+            return graph.offsets[row + 1] - graph.offsets[row];
+        }
+
+        // 바뀌지 않은 행 [from, to) 의 간선을 통째로 복사하고 시작 위치만 옮긴다
+        private int copyRows(int from, int to, int position, int[] offsets, int[] targets, int[] edgeSections, int[][] typeWeights) {
+            int oldSize = graph.stations.length;
+            int oldFrom = graph.offsets[Math.min(from, oldSize)];
+            int oldTo = graph.offsets[Math.min(to, oldSize)];
+            int length = oldTo - oldFrom;
+            System.arraycopy(graph.targets, oldFrom, targets, position, length);
+            System.arraycopy(graph.edgeSections, oldFrom, edgeSections, position, length);
+            for (PathType pathType : PathType.values()) {
+                System.arraycopy(graph.typeWeights[pathType.ordinal()], oldFrom, typeWeights[pathType.ordinal()], position, length);
+            }
+            int shift = position - oldFrom;
+            for (int row = from; row < to; row++) {
+                offsets[row] = graph.offsets[Math.min(row, oldSize)] + shift;
+            }
+            return position + length;
+        }
+
+        // 최댓값을 가졌던 간선이 빠지거나 줄었을 때만 전체를 다시 훑는다
+        private int[] maxTypeWeightsOf(Section[] nextSections, int[][] typeWeights) {
+            int[] maxTypeWeights = graph.maxTypeWeights.clone();
+            for (PathType pathType : PathType.values()) {
+                int type = pathType.ordinal();
+                boolean lowered = false;
+                for (int slot : changedOrRemovedSlots()) {
+                    lowered |= pathType.findWeightOf(graph.sections[slot]) == graph.maxTypeWeights[type];
+                }
+                if (lowered) {
+                    maxTypeWeights[type] = Arrays.stream(typeWeights[type]).max().orElse(0);
+                    continue;
+                }
+                for (int slot = changedSlots.nextSetBit(0); slot >= 0; slot = changedSlots.nextSetBit(slot + 1)) {
+                    maxTypeWeights[type] = Math.max(maxTypeWeights[type], pathType.findWeightOf(nextSections[slot]));
+                }
+                for (int slot = graph.sections.length; slot < nextSections.length; slot++) {
+                    if (nextSections[slot] != null) {
+                        maxTypeWeights[type] = Math.max(maxTypeWeights[type], pathType.findWeightOf(nextSections[slot]));
+                    }
+                }
+            }
+            return maxTypeWeights;
+        }
+
+        private List<Integer> changedOrRemovedSlots() {
+            List<Integer> slots = new ArrayList<>(removedSlots);
+            for (int slot = changedSlots.nextSetBit(0); slot >= 0 && slot < graph.sections.length; slot = changedSlots.nextSetBit(slot + 1)) {
+                slots.add(slot);
+            }
+            return slots;
+        }
+    }
+
+    /**
+     * 연결 요소 번호를 이전 그래프에서 물려받아 고친다. 번호는 같은지만 비교하므로, 새로 나뉜 요소에는 쓰지 않은 번호를 붙인다.
+     * 구간이 더해지면 한쪽 요소의 번호를 다른 쪽으로 바꾸고, 구간이 빠지면 양 끝 역이 여전히 이어져 있는지
+     * 바뀐 그래프에서 한쪽 끝부터 넓이 우선으로 확인해 끊어졌을 때만 양쪽 요소에 새 번호를 붙인다.
+     */
+    private static class Components {
+        private final int[] previousLabels;
+        private int[] labels;
+        private int labelCount;
+        private final int[] offsets;
+        private final int[] targets;
+
+        private Components(int[] previousLabels, int labelCount, int size, int[] offsets, int[] targets) {
+            this.previousLabels = previousLabels;
+            this.labels = previousLabels;
+            this.labelCount = labelCount;
+            this.offsets = offsets;
+            this.targets = targets;
+            if (size > previousLabels.length) {
+                labels = Arrays.copyOf(previousLabels, size);
+                for (int station = previousLabels.length; station < size; station++) {
+                    labels[station] = this.labelCount++;
+                }
+            }
+        }
+
+        private void union(int up, int down) {
+            int from = labels[down];
+            int to = labels[up];
+            if (from == to) {
+                return;
+            }
+            writable();
+            for (int station = 0; station < labels.length; station++) {
+                if (labels[station] == from) {
+                    labels[station] = to;
+                }
+            }
+        }
+
+        private void split(int up, int down) {
+            if (labels[up] != labels[down]) {
+                return;
+            }
+            List<Integer> upComponent = componentOf(up, down);
+            if (upComponent == null) {
+                return;
+            }
+            writable();
+            relabel(upComponent);
+            relabel(componentOf(down, NO_STATION));
+        }
+
+        // stop 에 닿으면 null, 아니면 start 와 이어진 역을 모두 돌려준다
+        private List<Integer> componentOf(int start, int stop) {
+            boolean[] visited = new boolean[labels.length];
+            List<Integer> component = new ArrayList<>();
+            visited[start] = true;
+            component.add(start);
+            for (int i = 0; i < component.size(); i++) {
+                int station = component.get(i);
+                for (int edge = offsets[station]; edge < offsets[station + 1]; edge++) {
+                    int next = targets[edge];
+                    if (next == stop) {
+                        return null;
+                    }
+                    if (!visited[next]) {
+                        visited[next] = true;
+                        component.add(next);
+                    }
+                }
+            }
+            return component;
+        }
+
+        private void relabel(List<Integer> component) {
+            int label = labelCount++;
+            for (int station : component) {
+                labels[station] = label;
+            }
+        }
+
+        private void writable() {
+            if (labels == previousLabels) {
+                labels = previousLabels.clone();
+            }
+        }
+
+        private int[] getLabels() {
+            return labels;
+        }
+
+        private int getLabelCount() {
+            return labelCount;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.station.domain.Station;
+
+import java.util.Comparator;
+
+/**
+ * 구간을 닫았을 때 비용이 늘어나는 출발역/도착역 쌍. 더 이상 갈 수 없게 되면 닫은 뒤의 비용은 UNREACHABLE 이다.
+ */
+public class Detour {
+    // 갈 수 없게 된 쌍은 늘어난 비용을 가장 크게 보므로 맨 앞에 놓인다
+    public static final Comparator<Detour> WORST_FIRST = Comparator.comparingInt(Detour::getDetourCost).reversed();
+
+    private final Station source;
+    private final Station target;
+    private final int cost;
+    private final int closedCost;
+
+    public Detour(Station source, Station target, int cost, int closedCost) {
+        this.source = source;
+        this.target = target;
+        this.cost = cost;
+        this.closedCost = closedCost;
+    }
+
+    public Station getSource() {
+        return source;
+    }
+
+    public Station getTarget() {
+        return target;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public int getClosedCost() {
+        return closedCost;
+    }
+
+    public boolean isDisconnected() {
+        return closedCost == ShortestPathTree.UNREACHABLE;
+    }
+
+    public int getDetourCost() {
+        if (isDisconnected()) {
+            return ShortestPathTree.UNREACHABLE;
+        }
+        return closedCost - cost;
+    }
+}
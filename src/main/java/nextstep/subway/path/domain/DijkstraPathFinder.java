@@ -0,0 +1,229 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.station.domain.Station;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class DijkstraPathFinder implements PathFinder {
+    private final CsrGraph graph;
+
+    public DijkstraPathFinder(CsrGraph graph) {
+        this.graph = graph;
+    }
+
+    @Override
+    public PathResult findPath(Station source, Station target) {
+        return findPath(source, target, PathMask.none());
+    }
+
+    /**
+     * 막힌 역과 구간으로 가는 간선은 완화하지 않는다. 그래프를 복사하지 않으므로 막지 않은 탐색과 비용이 같다.
+     */
+    public PathResult findPath(Station source, Station target, PathMask mask) {
+        int sourceIndex = graph.indexOf(source);
+        int targetIndex = graph.indexOf(target);
+        if (sourceIndex == CsrGraph.NO_STATION || targetIndex == CsrGraph.NO_STATION) {
+            throw new RuntimeException("노선에 등록되지 않은 역입니다.");
+        }
+        if (mask.isStationBlocked(sourceIndex) || mask.isStationBlocked(targetIndex)) {
+            throw new RuntimeException("출발역과 도착역은 제외할 수 없습니다.");
+        }
+
+        // 경로 결과 외에는 스레드별 작업 공간만 사용한다
+        SearchScratch scratch = SearchScratch.forCurrentThread(graph);
+        IntPriorityQueue queue = scratch.getQueue();
+        int settledCount = 0;
+        scratch.reach(sourceIndex, 0, CsrGraph.NO_EDGE);
+        queue.insertOrDecrease(sourceIndex, 0);
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            settledCount++;
+            SearchCancellation.checkpoint(settledCount);
+            if (current == targetIndex) {
+                return graph.toPathResult(sourceIndex, targetIndex, scratch.getParentEdges(), settledCount);
+            }
+            scratch.settle(current);
+
+            int currentDistance = scratch.distanceOf(current);
+            for (int edge = graph.firstEdge(current); edge < graph.lastEdge(current); edge++) {
+                if (mask.blocks(graph, edge)) {
+                    continue;
+                }
+                int next = graph.target(edge);
+                int distance = currentDistance + graph.weight(edge);
+                if (!scratch.isSettled(next) && distance < scratch.distanceOf(next)) {
+                    scratch.reach(next, distance, edge);
+                    queue.insertOrDecrease(next, distance);
+                }
+            }
+        }
+
+        throw new PathNotFoundException();
+    }
+
+    /**
+     * 간선 비용을 그래프의 비용 대신 거리와 소요 시간의 가중합으로 계산해 탐색한다.
+     */
+    public PathResult findPath(Station source, Station target, BlendedCost cost) {
+        int sourceIndex = graph.indexOf(source);
+        int targetIndex = graph.indexOf(target);
+        if (sourceIndex == CsrGraph.NO_STATION || targetIndex == CsrGraph.NO_STATION) {
+            throw new RuntimeException("노선에 등록되지 않은 역입니다.");
+        }
+
+        SearchScratch scratch = SearchScratch.forCurrentThread(SearchScratch.FORWARD, graph.size(), cost.maxCostOf(graph));
+        IntPriorityQueue queue = scratch.getQueue();
+        int settledCount = 0;
+        scratch.reach(sourceIndex, 0, CsrGraph.NO_EDGE);
+        queue.insertOrDecrease(sourceIndex, 0);
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            settledCount++;
+            SearchCancellation.checkpoint(settledCount);
+            if (current == targetIndex) {
+                return graph.toPathResult(sourceIndex, targetIndex, scratch.getParentEdges(), settledCount);
+            }
+            scratch.settle(current);
+
+            int currentCost = scratch.distanceOf(current);
+            for (int edge = graph.firstEdge(current); edge < graph.lastEdge(current); edge++) {
+                int next = graph.target(edge);
+                int nextCost = currentCost + cost.costOf(graph, edge);
+                if (!scratch.isSettled(next) && nextCost < scratch.distanceOf(next)) {
+                    scratch.reach(next, nextCost, edge);
+                    queue.insertOrDecrease(next, nextCost);
+                }
+            }
+        }
+
+        throw new PathNotFoundException();
+    }
+
+    /**
+     * 출발역이 같은 경로들은 한 번의 탐색으로 찾는다. 도착역이 모두 확정되면 탐색을 멈춘다.
+     */
+    @Override
+    public List<PathResult> findPaths(Station source, List<Station> targets) {
+        int sourceIndex = graph.indexOf(source);
+        int[] targetIndexes = new int[targets.size()];
+        boolean[] isTarget = new boolean[graph.size()];
+        int remaining = 0;
+        for (int i = 0; i < targets.size(); i++) {
+            targetIndexes[i] = graph.indexOf(targets.get(i));
+            if (sourceIndex == CsrGraph.NO_STATION || targetIndexes[i] == CsrGraph.NO_STATION) {
+                throw new RuntimeException("노선에 등록되지 않은 역입니다.");
+            }
+            if (!isTarget[targetIndexes[i]]) {
+                isTarget[targetIndexes[i]] = true;
+                remaining++;
+            }
+        }
+
+        SearchScratch scratch = SearchScratch.forCurrentThread(graph);
+        IntPriorityQueue queue = scratch.getQueue();
+        int settledCount = 0;
+        scratch.reach(sourceIndex, 0, CsrGraph.NO_EDGE);
+        queue.insertOrDecrease(sourceIndex, 0);
+        while (remaining > 0 && !queue.isEmpty()) {
+            int current = queue.poll();
+            settledCount++;
+            SearchCancellation.checkpoint(settledCount);
+            scratch.settle(current);
+            if (isTarget[current]) {
+                remaining--;
+            }
+
+            int currentDistance = scratch.distanceOf(current);
+            for (int edge = graph.firstEdge(current); edge < graph.lastEdge(current); edge++) {
+                int next = graph.target(edge);
+                int distance = currentDistance + graph.weight(edge);
+                if (!scratch.isSettled(next) && distance < scratch.distanceOf(next)) {
+                    scratch.reach(next, distance, edge);
+                    queue.insertOrDecrease(next, distance);
+                }
+            }
+        }
+
+        List<PathResult> pathResults = new ArrayList<>(targetIndexes.length);
+        for (int targetIndex : targetIndexes) {
+            if (!scratch.isSettled(targetIndex)) {
+                throw new PathNotFoundException();
+            }
+            pathResults.add(graph.toPathResult(sourceIndex, targetIndex, scratch.getParentEdges(), settledCount));
+        }
+        return pathResults;
+    }
+
+    /**
+     * 비용이 budget 을 넘는 역은 큐에 넣지 않으므로 도달 가능한 영역만큼만 탐색한다.
+     */
+    public Isochrone findIsochrone(Station source, int budget) {
+        int sourceIndex = graph.indexOf(source);
+        if (sourceIndex == CsrGraph.NO_STATION) {
+            throw new RuntimeException("노선에 등록되지 않은 역입니다.");
+        }
+
+        SearchScratch scratch = SearchScratch.forCurrentThread(graph);
+        IntPriorityQueue queue = scratch.getQueue();
+        List<Station> stations = new ArrayList<>();
+        List<Integer> costs = new ArrayList<>();
+        scratch.reach(sourceIndex, 0, CsrGraph.NO_EDGE);
+        queue.insertOrDecrease(sourceIndex, 0);
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            scratch.settle(current);
+            int currentDistance = scratch.distanceOf(current);
+            stations.add(graph.getStation(current));
+            costs.add(currentDistance);
+
+            for (int edge = graph.firstEdge(current); edge < graph.lastEdge(current); edge++) {
+                int next = graph.target(edge);
+                int distance = currentDistance + graph.weight(edge);
+                if (distance <= budget && !scratch.isSettled(next) && distance < scratch.distanceOf(next)) {
+                    scratch.reach(next, distance, edge);
+                    queue.insertOrDecrease(next, distance);
+                }
+            }
+        }
+        return new Isochrone(source, budget, stations, costs);
+    }
+
+    public ShortestPathTree findTree(int source) {
+        return findTree(source, PathMask.none());
+    }
+
+    public ShortestPathTree findTree(int source, PathMask mask) {
+        int[] distances = new int[graph.size()];
+        int[] parentEdges = new int[graph.size()];
+        boolean[] settled = new boolean[graph.size()];
+        Arrays.fill(distances, ShortestPathTree.UNREACHABLE);
+        Arrays.fill(parentEdges, CsrGraph.NO_EDGE);
+
+        IntPriorityQueue queue = IntPriorityQueue.create(graph.size(), graph.maxWeight());
+        int settledCount = 0;
+        distances[source] = 0;
+        queue.insertOrDecrease(source, 0);
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            settledCount++;
+            SearchCancellation.checkpoint(settledCount);
+            settled[current] = true;
+
+            for (int edge = graph.firstEdge(current); edge < graph.lastEdge(current); edge++) {
+                if (mask.blocks(graph, edge)) {
+                    continue;
+                }
+                int next = graph.target(edge);
+                int distance = distances[current] + graph.weight(edge);
+                if (!settled[next] && distance < distances[next]) {
+                    distances[next] = distance;
+                    parentEdges[next] = edge;
+                    queue.insertOrDecrease(next, distance);
+                }
+            }
+        }
+        return new ShortestPathTree(source, distances, parentEdges, settledCount);
+    }
+}
@@ -0,0 +1,36 @@
+package nextstep.subway.path.domain;
+
+public class GraphSnapshot {
+    private static final long EMPTY_VERSION = -1L;
+
+    private final long version;
+    private final SubwayGraph graph;
+
+    public GraphSnapshot(long version, SubwayGraph graph) {
+        this.version = version;
+        this.graph = graph;
+    }
+
+    public static GraphSnapshot empty() {
+        return new GraphSnapshot(EMPTY_VERSION, null);
+    }
+
+    public boolean isVersionOf(long version) {
+        return this.version == version;
+    }
+
+    /**
+     * 구간 변경분은 버전이 올라가기 직전에 반영되므로, 잠시 동안은 읽은 버전보다 새 그래프가 보일 수 있다.
+     */
+    public boolean isUpToDate(long version) {
+        return this.version >= version;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public SubwayGraph getGraph() {
+        return graph;
+    }
+}
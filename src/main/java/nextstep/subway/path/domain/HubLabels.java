@@ -0,0 +1,128 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.station.domain.Station;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * Contraction Hierarchies 의 축약 순서로 만든 허브 라벨.
+ * 각 역은 위쪽 탐색으로 닿는 역(허브)과 그 비용을 허브 인덱스 순으로 정렬해 가지고 있고,
+ * 두 역의 최단 비용은 두 라벨을 한 번 병합하며 공통 허브 비용 합의 최솟값으로 구한다.
+ */
+public class HubLabels {
+    private final CsrGraph graph;
+    private final int[] labelOffsets;
+    private final int[] hubs;
+    private final int[] costs;
+
+    public HubLabels(ContractionHierarchy hierarchy) {
+        this.graph = hierarchy.getGraph();
+        int size = graph.size();
+        int[][] labelHubs = new int[size][];
+        int[][] labelCosts = new int[size][];
+
+        // 순위가 높은 역의 라벨부터 만들고, 낮은 역은 위쪽 이웃들의 라벨을 이어 받아 만든다
+        Integer[] order = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+        Arrays.sort(order, Comparator.comparingInt((Integer it) -> hierarchy.rankOf(it)).reversed());
+        int[] candidates = new int[size];
+        Arrays.fill(candidates, ShortestPathTree.UNREACHABLE);
+        int[] touched = new int[size];
+        for (int station : order) {
+            int touchedCount = 0;
+            candidates[station] = 0;
+            touched[touchedCount++] = station;
+            for (int edge = hierarchy.firstUpwardEdge(station); edge < hierarchy.lastUpwardEdge(station); edge++) {
+                int neighbor = hierarchy.upwardTarget(edge);
+                int weight = hierarchy.upwardWeight(edge);
+                for (int i = 0; i < labelHubs[neighbor].length; i++) {
+                    int hub = labelHubs[neighbor][i];
+                    int cost = labelCosts[neighbor][i] + weight;
+                    if (candidates[hub] == ShortestPathTree.UNREACHABLE) {
+                        touched[touchedCount++] = hub;
+                    }
+                    candidates[hub] = Math.min(candidates[hub], cost);
+                }
+            }
+
+            int[] stationHubs = Arrays.copyOf(touched, touchedCount);
+            Arrays.sort(stationHubs);
+            int[] stationCosts = new int[touchedCount];
+            for (int i = 0; i < touchedCount; i++) {
+                stationCosts[i] = candidates[stationHubs[i]];
+                candidates[stationHubs[i]] = ShortestPathTree.UNREACHABLE;
+            }
+            labelHubs[station] = stationHubs;
+            labelCosts[station] = stationCosts;
+            prune(station, labelHubs, labelCosts);
+        }
+
+        this.labelOffsets = new int[size + 1];
+        for (int station = 0; station < size; station++) {
+            labelOffsets[station + 1] = labelOffsets[station] + labelHubs[station].length;
+        }
+        this.hubs = new int[labelOffsets[size]];
+        this.costs = new int[labelOffsets[size]];
+        for (int station = 0; station < size; station++) {
+            System.arraycopy(labelHubs[station], 0, hubs, labelOffsets[station], labelHubs[station].length);
+            System.arraycopy(labelCosts[station], 0, costs, labelOffsets[station], labelCosts[station].length);
+        }
+    }
+
+    /**
+     * 다른 허브를 거쳐 더 싸게 닿을 수 있는 허브는 최단 비용이 아니므로 라벨에서 뺀다.
+     */
+    private void prune(int station, int[][] labelHubs, int[][] labelCosts) {
+        int[] stationHubs = labelHubs[station];
+        int[] stationCosts = labelCosts[station];
+        int[] keptHubs = new int[stationHubs.length];
+        int[] keptCosts = new int[stationHubs.length];
+        int kept = 0;
+        for (int i = 0; i < stationHubs.length; i++) {
+            int hub = stationHubs[i];
+            if (hub != station && merge(stationHubs, stationCosts, 0, stationHubs.length,
+                    labelHubs[hub], labelCosts[hub], 0, labelHubs[hub].length) < stationCosts[i]) {
+                continue;
+            }
+            keptHubs[kept] = hub;
+            keptCosts[kept] = stationCosts[i];
+            kept++;
+        }
+        labelHubs[station] = Arrays.copyOf(keptHubs, kept);
+        labelCosts[station] = Arrays.copyOf(keptCosts, kept);
+    }
+
+    public int labelSize(Station station) {
+        int index = graph.indexOf(station);
+        return labelOffsets[index + 1] - labelOffsets[index];
+    }
+
+    public boolean contains(Station station) {
+        return graph.indexOf(station) != CsrGraph.NO_STATION;
+    }
+
+    public int findCost(Station source, Station target) {
+        int sourceIndex = graph.indexOf(source);
+        int targetIndex = graph.indexOf(target);
+        return merge(hubs, costs, labelOffsets[sourceIndex], labelOffsets[sourceIndex + 1],
+                hubs, costs, labelOffsets[targetIndex], labelOffsets[targetIndex + 1]);
+    }
+
+    private static int merge(int[] sourceHubs, int[] sourceCosts, int sourceFrom, int sourceTo,
+                             int[] targetHubs, int[] targetCosts, int targetFrom, int targetTo) {
+        int best = ShortestPathTree.UNREACHABLE;
+        int i = sourceFrom;
+        int j = targetFrom;
+        while (i < sourceTo && j < targetTo) {
+            if (sourceHubs[i] < targetHubs[j]) {
+                i++;
+            } else if (sourceHubs[i] > targetHubs[j]) {
+                j++;
+            } else {
+                best = Math.min(best, sourceCosts[i++] + targetCosts[j++]);
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,113 @@
+package nextstep.subway.path.domain;
+
+import java.util.Arrays;
+
+/**
+ * 역 인덱스를 원소로, 정수 비용을 키로 가지는 최소 힙.
+ * 키가 같으면 인덱스가 작은 역을 먼저 꺼내 탐색 결과가 항상 같도록 한다.
+ */
+public class IndexedBinaryHeap implements IntPriorityQueue {
+    private static final int ABSENT = -1;
+
+    private final int[] heap;
+    private final int[] positions;
+    private final int[] keys;
+    private int size;
+
+    public IndexedBinaryHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.keys = new int[capacity];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void insertOrDecrease(int node, int key) {
+        if (positions[node] == ABSENT) {
+            heap[size] = node;
+            positions[node] = size;
+            keys[node] = key;
+            siftUp(size++);
+            return;
+        }
+        if (key < keys[node]) {
+            keys[node] = key;
+            siftUp(positions[node]);
+        }
+    }
+
+    @Override
+    public int peekKey() {
+        return keys[heap[0]];
+    }
+
+    @Override
+    public int poll() {
+        int min = heap[0];
+        positions[min] = ABSENT;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int position) {
+        int node = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!less(node, heap[parent])) {
+                break;
+            }
+            move(heap[parent], position);
+            position = parent;
+        }
+        move(node, position);
+    }
+
+    private void siftDown(int position) {
+        int node = heap[position];
+        while (true) {
+            int child = position * 2 + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && less(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!less(heap[child], node)) {
+                break;
+            }
+            move(heap[child], position);
+            position = child;
+        }
+        move(node, position);
+    }
+
+    private boolean less(int node, int other) {
+        if (keys[node] != keys[other]) {
+            return keys[node] < keys[other];
+        }
+        return node < other;
+    }
+
+    private void move(int node, int position) {
+        heap[position] = node;
+        positions[node] = position;
+    }
+}
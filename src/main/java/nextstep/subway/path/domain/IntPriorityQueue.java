@@ -0,0 +1,26 @@
+package nextstep.subway.path.domain;
+
+/**
+ * 역 인덱스를 정수 비용 순으로 꺼내는 우선순위 큐.
+ */
+public interface IntPriorityQueue {
+    boolean isEmpty();
+
+    void insertOrDecrease(int node, int key);
+
+    int peekKey();
+
+    int poll();
+
+    void clear();
+
+    /**
+     * 구간 비용이 작은 정수이므로 버킷 큐를 기본으로 쓰고, 비용이 너무 커 버킷이 많아지는 경우에만 이진 힙을 쓴다.
+     */
+    static IntPriorityQueue create(int capacity, int maxWeight) {
+        if (maxWeight <= BucketQueue.MAX_WEIGHT) {
+            return new BucketQueue(capacity, maxWeight);
+        }
+        return new IndexedBinaryHeap(capacity);
+    }
+}
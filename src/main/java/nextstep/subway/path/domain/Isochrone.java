@@ -0,0 +1,38 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.station.domain.Station;
+
+import java.util.List;
+
+/**
+ * 출발역에서 정해진 비용(budget) 안에 도달할 수 있는 역들. 역은 가까운 순서로 놓인다.
+ */
+public class Isochrone {
+    private final Station source;
+    private final int budget;
+    private final List<Station> stations;
+    private final List<Integer> costs;
+
+    public Isochrone(Station source, int budget, List<Station> stations, List<Integer> costs) {
+        this.source = source;
+        this.budget = budget;
+        this.stations = stations;
+        this.costs = costs;
+    }
+
+    public Station getSource() {
+        return source;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public List<Station> getStations() {
+        return stations;
+    }
+
+    public int costOf(int order) {
+        return costs.get(order);
+    }
+}
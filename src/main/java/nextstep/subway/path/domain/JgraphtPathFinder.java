@@ -0,0 +1,53 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.line.domain.Sections;
+import nextstep.subway.station.domain.Station;
+import nextstep.subway.station.domain.Stations;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.WeightedMultigraph;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class JgraphtPathFinder implements PathFinder {
+    private WeightedMultigraph<Station, SubwayEdge> graph;
+
+    public JgraphtPathFinder(CsrGraph csrGraph) {
+        graph = new WeightedMultigraph(SubwayEdge.class);
+
+        // 지하철 역(정점)을 등록
+        for (int station = 0; station < csrGraph.size(); station++) {
+            graph.addVertex(csrGraph.getStation(station));
+        }
+
+        // 지하철 역의 연결 정보(간선)을 등록. 구간마다 양방향 간선이 있으므로 상행역에서 나가는 간선만 사용
+        for (int station = 0; station < csrGraph.size(); station++) {
+            for (int edge = csrGraph.firstEdge(station); edge < csrGraph.lastEdge(station); edge++) {
+                Section section = csrGraph.section(edge);
+                if (section.getUpStation().equals(csrGraph.getStation(station))) {
+                    graph.setEdgeWeight(createEdge(section), csrGraph.weight(edge));
+                }
+            }
+        }
+    }
+
+    private SubwayEdge createEdge(Section section) {
+        SubwayEdge subwayEdge = graph.addEdge(section.getUpStation(), section.getDownStation());
+        subwayEdge.addSection(section);
+        return subwayEdge;
+    }
+
+    @Override
+    public PathResult findPath(Station source, Station target) {
+        // 다익스트라 최단 경로 찾기
+        DijkstraShortestPath dijkstraShortestPath = new DijkstraShortestPath(graph);
+        GraphPath<Station, SubwayEdge> result = dijkstraShortestPath.getPath(source, target);
+        List<Section> sections = result.getEdgeList().stream()
+                .map(it -> it.getSection())
+                .collect(Collectors.toList());
+
+        return new PathResult(new Stations(result.getVertexList()), new Sections(sections));
+    }
+}
@@ -0,0 +1,217 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.station.domain.Station;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Yen 알고리즘으로 루프가 없는 k개의 최단 경로를 찾는다.
+ * 도착역을 루트로 하는 최단 경로 트리의 거리를 하한으로 삼아 우회(spur) 탐색을 A* 로 진행하고,
+ * 남은 후보만으로 충분하다고 판단되는 우회 탐색은 건너뛴다. 확정한 역이 settleLimit 을 넘으면 찾은 경로까지만 돌려준다.
+ */
+public class KShortestPathFinder {
+    private final CsrGraph graph;
+    private final ShortestPathTree targetTree;
+    private final int settleLimit;
+    private final boolean[] blockedStations;
+    private final Set<Integer> blockedSections = new HashSet<>();
+    private int settledCount;
+    private int spurSearchCount;
+    private int prunedSpurCount;
+    private boolean truncated;
+
+    public KShortestPathFinder(CsrGraph graph, ShortestPathTree targetTree, int settleLimit) {
+        this.graph = graph;
+        this.targetTree = targetTree;
+        this.settleLimit = settleLimit;
+        this.blockedStations = new boolean[graph.size()];
+    }
+
+    public AlternativePaths findPaths(Station source, int k) {
+        int sourceIndex = graph.indexOf(source);
+        if (sourceIndex == CsrGraph.NO_STATION) {
+            throw new RuntimeException("노선에 등록되지 않은 역입니다.");
+        }
+        if (!targetTree.isReachable(sourceIndex)) {
+            throw new PathNotFoundException();
+        }
+
+        List<Candidate> founds = new ArrayList<>();
+        List<PathResult> pathResults = new ArrayList<>();
+        Set<List<Integer>> seenPaths = new HashSet<>();
+        TreeSet<Candidate> candidates = new TreeSet<>(Comparator.comparingInt((Candidate it) -> it.cost)
+                .thenComparing(it -> Arrays.toString(it.edges)));
+
+        Candidate shortest = shortestFromTree(sourceIndex);
+        seenPaths.add(shortest.edgeList());
+        founds.add(shortest);
+        pathResults.add(graph.toPathResult(sourceIndex, shortest.edges, settledCount));
+
+        while (founds.size() < k) {
+            int needed = k - founds.size();
+            Candidate previous = founds.get(founds.size() - 1);
+            int current = sourceIndex;
+            int rootCost = 0;
+            for (int i = 0; i < previous.edges.length && !truncated; i++) {
+                int spur = current;
+                // 후보가 이미 충분하고 이 우회로 만들 수 있는 가장 짧은 경로도 그보다 길다면 탐색하지 않는다
+                if (candidates.size() >= needed && rootCost + targetTree.distanceOf(spur) >= candidates.last().cost) {
+                    prunedSpurCount++;
+                } else {
+                    searchSpur(sourceIndex, previous, i, rootCost, founds, candidates, seenPaths, needed);
+                }
+                rootCost += graph.weight(previous.edges[i]);
+                current = graph.opposite(previous.edges[i], current);
+            }
+            if (truncated) {
+                break;
+            }
+
+            Candidate next = candidates.pollFirst();
+            if (next == null) {
+                break;
+            }
+            founds.add(next);
+            pathResults.add(graph.toPathResult(sourceIndex, next.edges, settledCount));
+        }
+        return new AlternativePaths(pathResults, settledCount, spurSearchCount, prunedSpurCount, truncated);
+    }
+
+    private Candidate shortestFromTree(int source) {
+        // 구간이 양방향이므로 도착역을 루트로 하는 트리의 부모 간선을 따라가면 도착역에 닿는다
+        List<Integer> edges = new ArrayList<>();
+        for (int current = source; current != targetTree.getRoot(); ) {
+            int edge = targetTree.parentEdgeOf(current);
+            edges.add(edge);
+            current = graph.opposite(edge, current);
+        }
+        return new Candidate(toArray(edges), targetTree.distanceOf(source));
+    }
+
+    private void searchSpur(int source, Candidate previous, int spurOrder, int rootCost, List<Candidate> founds,
+                            TreeSet<Candidate> candidates, Set<List<Integer>> seenPaths, int needed) {
+        int[] rootEdges = Arrays.copyOf(previous.edges, spurOrder);
+        blockedSections.clear();
+        for (Candidate found : founds) {
+            if (found.edges.length > spurOrder && found.startsWith(rootEdges)) {
+                blockedSections.add(graph.sectionIndex(found.edges[spurOrder]));
+            }
+        }
+
+        int spur = source;
+        for (int edge : rootEdges) {
+            blockedStations[spur] = true;
+            spur = graph.opposite(edge, spur);
+        }
+        int[] spurEdges = searchToTarget(spur);
+        spur = source;
+        for (int edge : rootEdges) {
+            blockedStations[spur] = false;
+            spur = graph.opposite(edge, spur);
+        }
+        if (spurEdges == null) {
+            return;
+        }
+
+        int[] edges = Arrays.copyOf(rootEdges, rootEdges.length + spurEdges.length);
+        System.arraycopy(spurEdges, 0, edges, rootEdges.length, spurEdges.length);
+        Candidate candidate = new Candidate(edges, rootCost + costOf(spurEdges));
+        if (!seenPaths.add(candidate.edgeList())) {
+            return;
+        }
+        candidates.add(candidate);
+        // 앞으로 필요한 개수보다 많은 후보는 선택될 일이 없다
+        while (candidates.size() > needed) {
+            candidates.pollLast();
+        }
+    }
+
+    private int[] searchToTarget(int spur) {
+        spurSearchCount++;
+        int target = targetTree.getRoot();
+        SearchScratch scratch = SearchScratch.forCurrentThread(SearchScratch.FORWARD, graph.size(), graph.maxWeight() * 2);
+        IntPriorityQueue queue = scratch.getQueue();
+        scratch.reach(spur, 0, CsrGraph.NO_EDGE);
+        queue.insertOrDecrease(spur, targetTree.distanceOf(spur));
+        while (!queue.isEmpty()) {
+            if (settledCount >= settleLimit) {
+                truncated = true;
+                return null;
+            }
+            int current = queue.poll();
+            settledCount++;
+            SearchCancellation.checkpoint(settledCount);
+            if (current == target) {
+                return pathEdges(spur, target, scratch.getParentEdges());
+            }
+            scratch.settle(current);
+
+            int currentDistance = scratch.distanceOf(current);
+            for (int edge = graph.firstEdge(current); edge < graph.lastEdge(current); edge++) {
+                int next = graph.target(edge);
+                if (blockedStations[next] || blockedSections.contains(graph.sectionIndex(edge)) || !targetTree.isReachable(next)) {
+                    continue;
+                }
+                int distance = currentDistance + graph.weight(edge);
+                if (!scratch.isSettled(next) && distance < scratch.distanceOf(next)) {
+                    scratch.reach(next, distance, edge);
+                    queue.insertOrDecrease(next, distance + targetTree.distanceOf(next));
+                }
+            }
+        }
+        return null;
+    }
+
+    private int[] pathEdges(int source, int target, int[] parentEdges) {
+        List<Integer> edges = new ArrayList<>();
+        for (int current = target; current != source; current = graph.opposite(parentEdges[current], current)) {
+            edges.add(0, parentEdges[current]);
+        }
+        return toArray(edges);
+    }
+
+    private int costOf(int[] edges) {
+        int cost = 0;
+        for (int edge : edges) {
+            cost += graph.weight(edge);
+        }
+        return cost;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static class Candidate {
+        private final int[] edges;
+        private final int cost;
+
+        Candidate(int[] edges, int cost) {
+            this.edges = edges;
+            this.cost = cost;
+        }
+
+        boolean startsWith(int[] prefix) {
+            for (int i = 0; i < prefix.length; i++) {
+                if (edges[i] != prefix[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        List<Integer> edgeList() {
+            List<Integer> edgeList = new ArrayList<>(edges.length);
+            for (int edge : edges) {
+                edgeList.add(edge);
+            }
+            return edgeList;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.station.domain.Station;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 역마다 그 역을 지나는 노선 수만큼 (역, 노선) 정점을 두어 환승을 셀 수 있게 펼친 그래프.
+ * 같은 노선을 따라가는 간선은 CSR 그래프의 간선을 그대로 가리키고, 같은 역의 다른 노선 정점으로 가는 환승 간선은
+ * 저장하지 않고 탐색 중에 만들기 때문에 환승 비용과 최대 환승 횟수를 요청마다 바꿀 수 있다.
+ * 한 역의 정점들은 nodeOffsets[역] ~ nodeOffsets[역 + 1] - 1 에 모여 있다.
+ * 노선 정보가 바뀌어 같은 노선이 이름이 다른 객체로 섞여 있을 수 있으므로 노선은 id 로 비교한다.
+ */
+public class LineExpandedGraph {
+    public static final int UNLIMITED_TRANSFERS = -1;
+    private static final int NO_STATE = -1;
+
+    private final CsrGraph graph;
+    private final int[] nodeOffsets;
+    private final int[] nodeStations;
+    private final Line[] nodeLines;
+    private final int[] edgeOffsets;
+    private final int[] edgeTargets;
+    private final int[] edges;
+    private final int lineCount;
+
+    public LineExpandedGraph(CsrGraph graph) {
+        this.graph = graph;
+
+        List<Line> lines = new ArrayList<>();
+        List<Integer> stations = new ArrayList<>();
+        this.nodeOffsets = new int[graph.size() + 1];
+        for (int station = 0; station < graph.size(); station++) {
+            nodeOffsets[station] = lines.size();
+            for (int edge = graph.firstEdge(station); edge < graph.lastEdge(station); edge++) {
+                Line line = graph.section(edge).getLine();
+                if (lines.subList(nodeOffsets[station], lines.size()).stream().noneMatch(line::isSameLine)) {
+                    lines.add(line);
+                    stations.add(station);
+                }
+            }
+        }
+        nodeOffsets[graph.size()] = lines.size();
+        this.nodeLines = lines.toArray(new Line[0]);
+        this.lineCount = countLines(nodeLines);
+        this.nodeStations = stations.stream().mapToInt(Integer::intValue).toArray();
+
+        // 역에서 나가는 간선을 노선별 정점에 나누어 담으므로 간선 수는 CSR 그래프와 같다
+        this.edgeOffsets = new int[nodeLines.length + 1];
+        this.edgeTargets = new int[graph.edgeCount()];
+        this.edges = new int[graph.edgeCount()];
+        int position = 0;
+        for (int node = 0; node < nodeLines.length; node++) {
+            edgeOffsets[node] = position;
+            int station = nodeStations[node];
+            for (int edge = graph.firstEdge(station); edge < graph.lastEdge(station); edge++) {
+                if (nodeLines[node].isSameLine(graph.section(edge).getLine())) {
+                    edgeTargets[position] = nodeOf(graph.target(edge), nodeLines[node]);
+                    edges[position++] = edge;
+                }
+            }
+        }
+        edgeOffsets[nodeLines.length] = position;
+    }
+
+    private static int countLines(Line[] nodeLines) {
+        List<Line> distinctLines = new ArrayList<>();
+        for (Line line : nodeLines) {
+            if (distinctLines.stream().noneMatch(line::isSameLine)) {
+                distinctLines.add(line);
+            }
+        }
+        return distinctLines.size();
+    }
+
+    private int nodeOf(int station, Line line) {
+        for (int node = nodeOffsets[station]; node < nodeOffsets[station + 1]; node++) {
+            if (nodeLines[node].isSameLine(line)) {
+                return node;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    public int nodeCount() {
+        return nodeLines.length;
+    }
+
+    /**
+     * (정점, 사용한 환승 횟수)를 상태로 하는 다익스트라로 환승 비용을 더한 비용이 가장 작은 경로를 찾는다.
+     * 먼저 확정된 상태는 비용이 작거나 같으므로, 같은 정점에서 환승을 더 적게 쓰고 확정된 상태가 있으면 건너뛴다.
+     */
+    public PathResult findPath(Station source, Station target, int transferPenalty, int maxTransfers) {
+        if (transferPenalty < 0) {
+            throw new RuntimeException("환승 비용은 0 이상이어야 합니다.");
+        }
+        if (maxTransfers < 0 && maxTransfers != UNLIMITED_TRANSFERS) {
+            throw new RuntimeException("최대 환승 횟수는 0 이상이어야 합니다.");
+        }
+        int sourceIndex = graph.indexOf(source);
+        int targetIndex = graph.indexOf(target);
+        if (sourceIndex == CsrGraph.NO_STATION || targetIndex == CsrGraph.NO_STATION) {
+            throw new RuntimeException("노선에 등록되지 않은 역입니다.");
+        }
+        if (sourceIndex == targetIndex) {
+            return graph.toPathResult(sourceIndex, new int[0], 0);
+        }
+
+        // 노선 수 - 1 번보다 많이 환승하려면 같은 노선을 다시 타야 하므로, 그런 제한은 먼저 제한 없이 찾아 본다.
+        // 찾은 경로가 제한 안이면 그대로 답이고, 넘으면 그 경로의 환승 횟수보다 작은 제한으로 다시 찾으므로 상태 수가 경로 길이에 묶인다
+        if (maxTransfers != UNLIMITED_TRANSFERS && maxTransfers >= lineCount - 1) {
+            PathResult unlimited = search(sourceIndex, targetIndex, transferPenalty, UNLIMITED_TRANSFERS);
+            if (unlimited.getTransferCount() <= maxTransfers) {
+                return unlimited;
+            }
+        }
+        return search(sourceIndex, targetIndex, transferPenalty, maxTransfers);
+    }
+
+    private PathResult search(int sourceIndex, int targetIndex, int transferPenalty, int maxTransfers) {
+        // 환승 횟수에 제한이 없으면 환승 횟수를 상태에 넣지 않는다
+        int layers = maxTransfers == UNLIMITED_TRANSFERS ? 1 : maxTransfers + 1;
+        SearchScratch scratch = SearchScratch.forCurrentThread(SearchScratch.FORWARD, nodeLines.length * layers,
+                Math.max(graph.maxWeight(), transferPenalty));
+        IntPriorityQueue queue = scratch.getQueue();
+        // 부모 칸에는 간선 대신 직전 상태를 저장한다
+        for (int node = nodeOffsets[sourceIndex]; node < nodeOffsets[sourceIndex + 1]; node++) {
+            scratch.reach(node, 0, NO_STATE);
+            queue.insertOrDecrease(node, 0);
+        }
+
+        int settledCount = 0;
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int node = state % nodeLines.length;
+            int layer = state / nodeLines.length;
+            if (isDominated(scratch, node, layer)) {
+                continue;
+            }
+            scratch.settle(state);
+            settledCount++;
+            SearchCancellation.checkpoint(settledCount);
+            if (nodeStations[node] == targetIndex) {
+                return toPathResult(sourceIndex, state, scratch.getParentEdges(), settledCount);
+            }
+
+            int cost = scratch.distanceOf(state);
+            for (int position = edgeOffsets[node]; position < edgeOffsets[node + 1]; position++) {
+                relax(scratch, queue, state, layer * nodeLines.length + edgeTargets[position], addCost(cost, graph.weight(edges[position])));
+            }
+            if (maxTransfers == UNLIMITED_TRANSFERS || layer < maxTransfers) {
+                int nextLayer = maxTransfers == UNLIMITED_TRANSFERS ? 0 : layer + 1;
+                int station = nodeStations[node];
+                for (int other = nodeOffsets[station]; other < nodeOffsets[station + 1]; other++) {
+                    if (other != node) {
+                        relax(scratch, queue, state, nextLayer * nodeLines.length + other, addCost(cost, transferPenalty));
+                    }
+                }
+            }
+        }
+        throw new PathNotFoundException();
+    }
+
+    // 환승 비용이 매우 크면 더한 값이 int 를 넘으므로 도달하지 못한 값 바로 아래에서 멈춘다
+    private static int addCost(int cost, int weight) {
+        return (int) Math.min((long) cost + weight, ShortestPathTree.UNREACHABLE - 1);
+    }
+
+    private boolean isDominated(SearchScratch scratch, int node, int layer) {
+        for (int fewer = 0; fewer <= layer; fewer++) {
+            if (scratch.isSettled(fewer * nodeLines.length + node)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void relax(SearchScratch scratch, IntPriorityQueue queue, int state, int next, int cost) {
+        if (!isDominated(scratch, next % nodeLines.length, next / nodeLines.length) && cost < scratch.distanceOf(next)) {
+            scratch.reach(next, cost, state);
+            queue.insertOrDecrease(next, cost);
+        }
+    }
+
+    private PathResult toPathResult(int source, int targetState, int[] parentStates, int settledCount) {
+        List<Integer> pathEdges = new ArrayList<>();
+        int state = targetState;
+        while (parentStates[state] != NO_STATE) {
+            int parent = parentStates[state];
+            int node = state % nodeLines.length;
+            int parentNode = parent % nodeLines.length;
+            // 같은 역 안에서 노선만 바꾼 환승은 구간이 아니므로 경로에 넣지 않는다
+            if (nodeStations[node] != nodeStations[parentNode]) {
+                pathEdges.add(0, rideEdge(parentNode, node));
+            }
+            state = parent;
+        }
+        return graph.toPathResult(source, pathEdges.stream().mapToInt(Integer::intValue).toArray(), settledCount);
+    }
+
+    // 두 정점 사이에 같은 노선의 구간이 여럿이면 가장 비용이 작은 구간을 탔다
+    private int rideEdge(int from, int to) {
+        int best = CsrGraph.NO_EDGE;
+        for (int position = edgeOffsets[from]; position < edgeOffsets[from + 1]; position++) {
+            if (edgeTargets[position] == to && (best == CsrGraph.NO_EDGE || graph.weight(edges[position]) < graph.weight(best))) {
+                best = edges[position];
+            }
+        }
+        return best;
+    }
+}
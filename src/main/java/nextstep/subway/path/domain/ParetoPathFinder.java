@@ -0,0 +1,100 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.station.domain.Station;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 거리와 소요 시간을 함께 가진 라벨로 탐색해, 서로 우열을 가릴 수 없는(Pareto) 경로를 한 번에 모두 찾는다.
+ * 라벨을 (거리, 소요 시간) 사전 순으로 꺼내므로 먼저 확정된 라벨은 거리가 항상 짧거나 같다.
+ * 따라서 역마다 확정된 라벨의 최소 소요 시간만 알면 새 라벨이 지배되는지 바로 판단할 수 있다.
+ */
+public class ParetoPathFinder {
+    private final CsrGraph graph;
+
+    public ParetoPathFinder(CsrGraph graph) {
+        this.graph = graph;
+    }
+
+    public ParetoPaths findPaths(Station source, Station target) {
+        int sourceIndex = graph.indexOf(source);
+        int targetIndex = graph.indexOf(target);
+        if (sourceIndex == CsrGraph.NO_STATION || targetIndex == CsrGraph.NO_STATION) {
+            throw new RuntimeException("노선에 등록되지 않은 역입니다.");
+        }
+
+        int[] minDurations = new int[graph.size()];
+        Arrays.fill(minDurations, Integer.MAX_VALUE);
+        PriorityQueue<Label> queue = new PriorityQueue<>(Comparator.comparingInt((Label it) -> it.distance)
+                .thenComparingInt(it -> it.duration));
+        List<Label> targetLabels = new ArrayList<>();
+        int settledCount = 0;
+        queue.add(new Label(sourceIndex, 0, 0, null, CsrGraph.NO_EDGE));
+        while (!queue.isEmpty()) {
+            Label current = queue.poll();
+            if (minDurations[current.station] <= current.duration) {
+                continue;
+            }
+            minDurations[current.station] = current.duration;
+            settledCount++;
+            SearchCancellation.checkpoint(settledCount);
+            if (current.station == targetIndex) {
+                targetLabels.add(current);
+                continue;
+            }
+
+            for (int edge = graph.firstEdge(current.station); edge < graph.lastEdge(current.station); edge++) {
+                int next = graph.target(edge);
+                int duration = current.duration + graph.duration(edge);
+                // 도착역에 이미 더 짧은 소요 시간의 라벨이 있으면 이 라벨로는 새로운 Pareto 경로를 만들 수 없다
+                if (minDurations[next] <= duration || minDurations[targetIndex] <= duration) {
+                    continue;
+                }
+                queue.add(new Label(next, current.distance + graph.distance(edge), duration, current, edge));
+            }
+        }
+
+        if (targetLabels.isEmpty()) {
+            throw new PathNotFoundException();
+        }
+        List<PathResult> pathResults = new ArrayList<>();
+        for (Label label : targetLabels) {
+            pathResults.add(graph.toPathResult(sourceIndex, label.pathEdges(), settledCount));
+        }
+        return new ParetoPaths(pathResults, settledCount);
+    }
+
+    private static class Label {
+        private final int station;
+        private final int distance;
+        private final int duration;
+        private final Label parent;
+        private final int edge;
+
+        Label(int station, int distance, int duration, Label parent, int edge) {
+            this.station = station;
+            this.distance = distance;
+            this.duration = duration;
+            this.parent = parent;
+            this.edge = edge;
+        }
+
+        int[] pathEdges() {
+            int length = 0;
+            for (Label label = this; label.parent != null; label = label.parent) {
+                length++;
+            }
+            int[] edges = new int[length];
+            Label label = this;
+            for (int i = length - 1; i >= 0; i--) {
+                edges[i] = label.edge;
+                label = label.parent;
+            }
+            return edges;
+        }
+    }
+}
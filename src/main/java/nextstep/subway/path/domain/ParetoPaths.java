@@ -0,0 +1,24 @@
+package nextstep.subway.path.domain;
+
+import java.util.List;
+
+/**
+ * 거리가 짧은 순서(= 소요 시간이 긴 순서)로 놓인 Pareto 경로들.
+ */
+public class ParetoPaths {
+    private final List<PathResult> paths;
+    private final int settledLabelCount;
+
+    public ParetoPaths(List<PathResult> paths, int settledLabelCount) {
+        this.paths = paths;
+        this.settledLabelCount = settledLabelCount;
+    }
+
+    public List<PathResult> getPaths() {
+        return paths;
+    }
+
+    public int getSettledLabelCount() {
+        return settledLabelCount;
+    }
+}
@@ -0,0 +1,38 @@
+package nextstep.subway.path.domain;
+
+public enum PathEngine {
+    JGRAPHT((graph, settings) -> new JgraphtPathFinder(graph)),
+
+    CSR((graph, settings) -> new DijkstraPathFinder(graph)),
+
+    BIDIRECTIONAL((graph, settings) -> new BidirectionalDijkstraPathFinder(graph)),
+
+    CH((graph, settings) -> new ContractionHierarchyBuilder(graph).build(), true),
+
+    ALT((graph, settings) -> new AltPathFinder(graph, settings.getLandmarkCount()), true);
+
+    private PathFinderFactory factory;
+    private boolean preprocessed;
+
+    PathEngine(PathFinderFactory factory) {
+        this(factory, false);
+    }
+
+    PathEngine(PathFinderFactory factory, boolean preprocessed) {
+        this.factory = factory;
+        this.preprocessed = preprocessed;
+    }
+
+    public boolean isPreprocessed() {
+        return preprocessed;
+    }
+
+    public PathFinder createPathFinder(CsrGraph graph, PathEngineSettings settings) {
+        return factory.create(graph, settings);
+    }
+
+    @FunctionalInterface
+    private interface PathFinderFactory {
+        PathFinder create(CsrGraph graph, PathEngineSettings settings);
+    }
+}
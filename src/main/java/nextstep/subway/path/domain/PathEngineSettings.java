@@ -0,0 +1,26 @@
+package nextstep.subway.path.domain;
+
+public class PathEngineSettings {
+    public static final int DEFAULT_LANDMARK_COUNT = 8;
+    public static final int DEFAULT_TREE_CACHE_CAPACITY = 64;
+
+    private final int landmarkCount;
+    private final int treeCacheCapacity;
+
+    public PathEngineSettings(int landmarkCount, int treeCacheCapacity) {
+        this.landmarkCount = landmarkCount;
+        this.treeCacheCapacity = treeCacheCapacity;
+    }
+
+    public static PathEngineSettings defaults() {
+        return new PathEngineSettings(DEFAULT_LANDMARK_COUNT, DEFAULT_TREE_CACHE_CAPACITY);
+    }
+
+    public int getLandmarkCount() {
+        return landmarkCount;
+    }
+
+    public int getTreeCacheCapacity() {
+        return treeCacheCapacity;
+    }
+}
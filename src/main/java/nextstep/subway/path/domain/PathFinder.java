@@ -0,0 +1,16 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.station.domain.Station;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public interface PathFinder {
+    PathResult findPath(Station source, Station target);
+
+    default List<PathResult> findPaths(Station source, List<Station> targets) {
+        return targets.stream()
+                .map(target -> findPath(source, target))
+                .collect(Collectors.toList());
+    }
+}
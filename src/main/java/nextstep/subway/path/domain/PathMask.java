@@ -0,0 +1,65 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.station.domain.Station;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 탐색에서 지나지 않을 역과 구간을 그래프 인덱스 기준의 비트 집합으로 표시한다.
+ * 그래프는 모든 요청이 함께 쓰고, 요청마다 이 표시만 따로 만들어 간선을 완화할 때 확인한다.
+ */
+public class PathMask {
+    private static final PathMask NONE = new PathMask(new BitSet(), new BitSet());
+
+    private final BitSet stations;
+    private final BitSet sections;
+
+    private PathMask(BitSet stations, BitSet sections) {
+        this.stations = stations;
+        this.sections = sections;
+    }
+
+    public static PathMask none() {
+        return NONE;
+    }
+
+    /**
+     * 노선에 등록되지 않은 역이나 이미 사라진 구간은 지날 일이 없으므로 무시한다.
+     */
+    public static PathMask of(CsrGraph graph, List<Station> avoidStations, List<Long> avoidSectionIds) {
+        BitSet stations = new BitSet(graph.size());
+        for (Station station : avoidStations) {
+            int index = graph.indexOf(station);
+            if (index != CsrGraph.NO_STATION) {
+                stations.set(index);
+            }
+        }
+        BitSet sections = new BitSet(graph.sectionCount());
+        for (Long sectionId : avoidSectionIds) {
+            int index = graph.sectionIndexOf(sectionId);
+            if (index != CsrGraph.NO_SECTION) {
+                sections.set(index);
+            }
+        }
+        return new PathMask(stations, sections);
+    }
+
+    public static PathMask ofSection(CsrGraph graph, int sectionIndex) {
+        BitSet sections = new BitSet(graph.sectionCount());
+        sections.set(sectionIndex);
+        return new PathMask(new BitSet(), sections);
+    }
+
+    public boolean isEmpty() {
+        return stations.isEmpty() && sections.isEmpty();
+    }
+
+    public boolean isStationBlocked(int station) {
+        return stations.get(station);
+    }
+
+    public boolean blocks(CsrGraph graph, int edge) {
+        return stations.get(graph.target(edge)) || sections.get(graph.sectionIndex(edge));
+    }
+}
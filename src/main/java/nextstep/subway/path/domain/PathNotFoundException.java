@@ -0,0 +1,7 @@
+package nextstep.subway.path.domain;
+
+public class PathNotFoundException extends RuntimeException {
+    public PathNotFoundException() {
+        super("출발역과 도착역이 연결되어 있지 않습니다.");
+    }
+}
@@ -1,24 +1,69 @@
 package nextstep.subway.path.domain;
 
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.line.domain.Section;
 import nextstep.subway.line.domain.Sections;
 import nextstep.subway.station.domain.Station;
 import nextstep.subway.station.domain.Stations;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class PathResult {
     private Sections sections;
     private Stations stations;
+    private int settledCount;
 
     public PathResult(Stations stations, Sections sections) {
+        this(stations, sections, 0);
+    }
+
+    public PathResult(Stations stations, Sections sections, int settledCount) {
         this.stations = stations;
         this.sections = sections;
+        this.settledCount = settledCount;
+    }
+
+    /**
+     * 앞 경로의 도착역에서 다음 경로가 출발하도록 이어진 경로들을 하나로 합친다.
+     */
+    public static PathResult concat(List<PathResult> pathResults) {
+        List<Station> stations = new ArrayList<>(pathResults.get(0).getStations());
+        List<Section> sections = new ArrayList<>();
+        int settledCount = 0;
+        for (int i = 0; i < pathResults.size(); i++) {
+            PathResult pathResult = pathResults.get(i);
+            if (i > 0) {
+                stations.addAll(pathResult.getStations().subList(1, pathResult.getStations().size()));
+            }
+            sections.addAll(pathResult.getSections());
+            settledCount += pathResult.settledCount;
+        }
+        return new PathResult(new Stations(stations), new Sections(sections), settledCount);
     }
 
     public List<Station> getStations() {
         return stations.getStations();
     }
 
+    public List<Section> getSections() {
+        return sections.getSections();
+    }
+
+    /**
+     * 이어진 두 구간의 노선이 다르면 환승한 것으로 센다.
+     */
+    public int getTransferCount() {
+        List<Section> pathSections = sections.getSections();
+        int transferCount = 0;
+        for (int i = 1; i < pathSections.size(); i++) {
+            if (!pathSections.get(i).getLine().isSameLine(pathSections.get(i - 1).getLine())) {
+                transferCount++;
+            }
+        }
+        return transferCount;
+    }
+
     public int getTotalDistance() {
         return sections.getTotalDistance();
     }
@@ -26,4 +71,12 @@ public class PathResult {
     public int getTotalDuration() {
         return sections.getTotalDuration();
     }
+
+    public int getTotalWeightOf(PathType type) {
+        return sections.getTotalWeightOf(type);
+    }
+
+    public int getSettledCount() {
+        return settledCount;
+    }
 }
@@ -0,0 +1,60 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.station.domain.Station;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 역에서 다른 모든 역까지의 최단 경로 트리를 역 단위로 조회한다.
+ */
+public class PathTree {
+    private final CsrGraph graph;
+    private final ShortestPathTree tree;
+
+    public PathTree(CsrGraph graph, ShortestPathTree tree) {
+        this.graph = graph;
+        this.tree = tree;
+    }
+
+    public Station getSource() {
+        return graph.getStation(tree.getRoot());
+    }
+
+    public List<Station> getReachableStations() {
+        List<Station> stations = new ArrayList<>();
+        for (int station = 0; station < graph.size(); station++) {
+            if (tree.isReachable(station)) {
+                stations.add(graph.getStation(station));
+            }
+        }
+        return stations;
+    }
+
+    public int costOf(Station station) {
+        int index = graph.indexOf(station);
+        if (index == CsrGraph.NO_STATION) {
+            return ShortestPathTree.UNREACHABLE;
+        }
+        return tree.distanceOf(index);
+    }
+
+    /**
+     * 출발역에서 해당 역으로 오기 직전의 역. 출발역이거나 도달할 수 없는 역이면 null 이다.
+     */
+    public Station previousStationOf(Station station) {
+        int index = graph.indexOf(station);
+        if (index == CsrGraph.NO_STATION || tree.parentEdgeOf(index) == CsrGraph.NO_EDGE) {
+            return null;
+        }
+        return graph.getStation(graph.opposite(tree.parentEdgeOf(index), index));
+    }
+
+    ShortestPathTree getShortestPathTree() {
+        return tree;
+    }
+
+    public int getSettledCount() {
+        return tree.getSettledCount();
+    }
+}
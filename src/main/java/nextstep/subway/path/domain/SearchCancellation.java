@@ -0,0 +1,27 @@
+package nextstep.subway.path.domain;
+
+/**
+ * 탐색 루프가 역을 확정할 때마다 호출해 탐색이 취소되었는지 확인한다.
+ * 취소는 탐색 중인 스레드의 인터럽트로 전달되며, 확인 비용을 줄이기 위해 일정 개수마다 한 번만 확인한다.
+ */
+public class SearchCancellation {
+    private static final int CHECK_INTERVAL = 1024;
+
+    private SearchCancellation() {
+    }
+
+    public static void checkpoint(int settledCount) {
+        if ((settledCount & (CHECK_INTERVAL - 1)) == 0 && Thread.currentThread().isInterrupted()) {
+            throw new SearchCancelledException();
+        }
+    }
+
+    /**
+     * fork-join 풀에서 나누어 실행하는 작업은 탐색을 시작한 스레드의 인터럽트를 직접 확인한다.
+     */
+    public static void checkpoint(Thread searchThread) {
+        if (searchThread.isInterrupted()) {
+            throw new SearchCancelledException();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package nextstep.subway.path.domain;
+
+public class SearchCancelledException extends RuntimeException {
+    public SearchCancelledException() {
+        super("경로 탐색이 취소되었습니다.");
+    }
+}
@@ -0,0 +1,89 @@
+package nextstep.subway.path.domain;
+
+import java.util.Arrays;
+
+/**
+ * 탐색마다 배열을 새로 만들지 않도록 스레드별로 재사용하는 작업 공간.
+ * 배열을 비우는 대신 탐색마다 세대(epoch)를 올리고, 현재 세대가 찍힌 칸만 유효한 값으로 본다.
+ */
+public class SearchScratch {
+    public static final int FORWARD = 0;
+    public static final int BACKWARD = 1;
+    private static final ThreadLocal<SearchScratch[]> SCRATCHES =
+            ThreadLocal.withInitial(() -> new SearchScratch[]{new SearchScratch(), new SearchScratch()});
+
+    private int[] distances = new int[0];
+    private int[] parentEdges = new int[0];
+    private int[] reachedEpochs = new int[0];
+    private int[] settledEpochs = new int[0];
+    private IntPriorityQueue queue;
+    private int queueMaxWeight = -1;
+    private int epoch;
+
+    public static SearchScratch forCurrentThread(CsrGraph graph) {
+        return forCurrentThread(FORWARD, graph.size(), graph.maxWeight());
+    }
+
+    /**
+     * 양방향 탐색처럼 한 스레드에서 작업 공간이 둘 필요한 경우 방향(slot)별로 따로 꺼내 쓴다.
+     */
+    public static SearchScratch forCurrentThread(int slot, int size, int maxWeight) {
+        SearchScratch scratch = SCRATCHES.get()[slot];
+        scratch.prepare(size, maxWeight);
+        return scratch;
+    }
+
+    private void prepare(int size, int maxWeight) {
+        if (distances.length < size) {
+            distances = new int[size];
+            parentEdges = new int[size];
+            reachedEpochs = new int[size];
+            settledEpochs = new int[size];
+            queue = null;
+            epoch = 0;
+        }
+
+        if (queue == null || queueMaxWeight < maxWeight) {
+            queue = IntPriorityQueue.create(distances.length, maxWeight);
+            queueMaxWeight = maxWeight;
+        } else {
+            queue.clear();
+        }
+
+        epoch++;
+        if (epoch == Integer.MAX_VALUE) {
+            Arrays.fill(reachedEpochs, 0);
+            Arrays.fill(settledEpochs, 0);
+            epoch = 1;
+        }
+    }
+
+    public IntPriorityQueue getQueue() {
+        return queue;
+    }
+
+    public int distanceOf(int station) {
+        if (reachedEpochs[station] != epoch) {
+            return ShortestPathTree.UNREACHABLE;
+        }
+        return distances[station];
+    }
+
+    public void reach(int station, int distance, int parentEdge) {
+        reachedEpochs[station] = epoch;
+        distances[station] = distance;
+        parentEdges[station] = parentEdge;
+    }
+
+    public boolean isSettled(int station) {
+        return settledEpochs[station] == epoch;
+    }
+
+    public void settle(int station) {
+        settledEpochs[station] = epoch;
+    }
+
+    public int[] getParentEdges() {
+        return parentEdges;
+    }
+}
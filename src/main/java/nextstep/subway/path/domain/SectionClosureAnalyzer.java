@@ -0,0 +1,126 @@
+package nextstep.subway.path.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 구간을 닫았을 때 비용이 늘어나는 출발역/도착역 쌍을 구한다.
+ * 모든 역을 루트로 하는 최단 경로 트리를 한 번 만들어 두고, 닫은 구간을 지나는 트리만 그 구간을 막고 다시 계산한다.
+ * 닫은 구간을 지나지 않는 트리는 구간이 없어져도 모든 비용이 그대로이므로 다시 계산하지 않는다.
+ * 트리 계산은 fork-join 풀의 스레드에서 나누어 실행되므로 분석을 시작한 스레드가 인터럽트되면 트리마다 확인해 멈춘다.
+ */
+public class SectionClosureAnalyzer {
+    private final CsrGraph graph;
+    private final DijkstraPathFinder dijkstra;
+    private final int size;
+    private final int[] costs;
+    private final int[][] treeRoots;
+
+    public SectionClosureAnalyzer(CsrGraph graph) {
+        this.graph = graph;
+        this.dijkstra = new DijkstraPathFinder(graph);
+        this.size = graph.size();
+        if ((long) size * size > Integer.MAX_VALUE) {
+            throw new RuntimeException("역이 너무 많아 구간 폐쇄 영향을 분석할 수 없습니다.");
+        }
+        this.costs = new int[size * size];
+
+        // 출발역별 최단 경로 트리는 서로 독립적이므로 fork-join 풀에서 병렬로 계산
+        Thread searchThread = Thread.currentThread();
+        int[][] usedSections = new int[size][];
+        IntStream.range(0, size).parallel().forEach(root -> {
+            SearchCancellation.checkpoint(searchThread);
+            ShortestPathTree tree = dijkstra.findTree(root);
+            BitSet used = new BitSet(graph.sectionCount());
+            int row = root * size;
+            for (int station = 0; station < size; station++) {
+                costs[row + station] = tree.distanceOf(station);
+                if (tree.parentEdgeOf(station) != CsrGraph.NO_EDGE) {
+                    used.set(graph.sectionIndex(tree.parentEdgeOf(station)));
+                }
+            }
+            usedSections[root] = used.stream().toArray();
+        });
+        this.treeRoots = treeRootsOf(graph.sectionCount(), usedSections);
+    }
+
+    // 트리마다 지나는 구간을 구간마다 그 구간을 지나는 트리의 루트로 뒤집는다
+    private static int[][] treeRootsOf(int sectionCount, int[][] usedSections) {
+        int[] counts = new int[sectionCount];
+        for (int[] sections : usedSections) {
+            for (int section : sections) {
+                counts[section]++;
+            }
+        }
+        int[][] treeRoots = new int[sectionCount][];
+        for (int section = 0; section < sectionCount; section++) {
+            treeRoots[section] = new int[counts[section]];
+            counts[section] = 0;
+        }
+        for (int root = 0; root < usedSections.length; root++) {
+            for (int section : usedSections[root]) {
+                treeRoots[section][counts[section]++] = root;
+            }
+        }
+        return treeRoots;
+    }
+
+    /**
+     * 구간 id 를 주지 않으면 모든 구간을 하나씩 닫아 본다. 결과는 영향이 큰 구간부터 놓인다.
+     */
+    public List<SectionClosureImpact> analyze(List<Long> sectionIds, int limit) {
+        if (limit < 0) {
+            throw new RuntimeException("보고할 역 쌍의 개수는 0 이상이어야 합니다.");
+        }
+
+        Thread searchThread = Thread.currentThread();
+        return sectionIndexesOf(sectionIds).parallel()
+                .mapToObj(sectionIndex -> analyze(sectionIndex, limit, searchThread))
+                .sorted(SectionClosureImpact.WORST_FIRST)
+                .collect(Collectors.toList());
+    }
+
+    private IntStream sectionIndexesOf(List<Long> sectionIds) {
+        if (sectionIds.isEmpty()) {
+            return IntStream.range(0, graph.sectionCount()).filter(graph::hasSection);
+        }
+        return sectionIds.stream()
+                .mapToInt(sectionId -> {
+                    int sectionIndex = graph.sectionIndexOf(sectionId);
+                    if (sectionIndex == CsrGraph.NO_SECTION) {
+                        throw new RuntimeException("노선에 등록되지 않은 구간입니다.");
+                    }
+                    return sectionIndex;
+                })
+                .distinct();
+    }
+
+    private SectionClosureImpact analyze(int sectionIndex, int limit, Thread searchThread) {
+        PathMask mask = PathMask.ofSection(graph, sectionIndex);
+        List<Detour> detours = Arrays.stream(treeRoots[sectionIndex]).parallel()
+                .mapToObj(root -> {
+                    SearchCancellation.checkpoint(searchThread);
+                    return findDetours(root, mask);
+                })
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+        return SectionClosureImpact.of(graph.getSection(sectionIndex), treeRoots[sectionIndex].length, detours, limit);
+    }
+
+    // 구간이 양방향이라 두 역 사이의 비용은 방향과 상관없이 같으므로 루트보다 뒤에 놓인 역과의 쌍만 본다
+    private List<Detour> findDetours(int root, PathMask mask) {
+        ShortestPathTree tree = dijkstra.findTree(root, mask);
+        List<Detour> detours = new ArrayList<>();
+        int row = root * size;
+        for (int station = root + 1; station < size; station++) {
+            if (tree.distanceOf(station) > costs[row + station]) {
+                detours.add(new Detour(graph.getStation(root), graph.getStation(station), costs[row + station], tree.distanceOf(station)));
+            }
+        }
+        return detours;
+    }
+}
@@ -0,0 +1,76 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.line.domain.Section;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 구간 하나를 닫았을 때의 영향. detours 에는 가장 크게 나빠진 쌍부터 보고할 개수만큼만 남긴다.
+ */
+public class SectionClosureImpact {
+    // 갈 수 없게 되는 쌍이 많은 구간을 먼저, 그다음 늘어난 비용의 합이 큰 순서로 놓는다
+    public static final Comparator<SectionClosureImpact> WORST_FIRST = Comparator.comparingInt(SectionClosureImpact::getDisconnectedPairCount)
+            .thenComparingLong(SectionClosureImpact::getTotalDetourCost)
+            .thenComparingInt(SectionClosureImpact::getAffectedPairCount)
+            .reversed();
+
+    private final Section section;
+    private final int recomputedTreeCount;
+    private final int affectedPairCount;
+    private final int disconnectedPairCount;
+    private final long totalDetourCost;
+    private final List<Detour> detours;
+
+    public SectionClosureImpact(Section section, int recomputedTreeCount, int affectedPairCount,
+                                int disconnectedPairCount, long totalDetourCost, List<Detour> detours) {
+        this.section = section;
+        this.recomputedTreeCount = recomputedTreeCount;
+        this.affectedPairCount = affectedPairCount;
+        this.disconnectedPairCount = disconnectedPairCount;
+        this.totalDetourCost = totalDetourCost;
+        this.detours = detours;
+    }
+
+    public static SectionClosureImpact of(Section section, int recomputedTreeCount, List<Detour> detours, int limit) {
+        int disconnectedPairCount = (int) detours.stream()
+                .filter(Detour::isDisconnected)
+                .count();
+        // 갈 수 없게 된 쌍은 비용을 더할 수 없으므로 따로 센다
+        long totalDetourCost = detours.stream()
+                .filter(it -> !it.isDisconnected())
+                .mapToLong(Detour::getDetourCost)
+                .sum();
+        List<Detour> worstDetours = detours.stream()
+                .sorted(Detour.WORST_FIRST)
+                .limit(limit)
+                .collect(Collectors.toList());
+        return new SectionClosureImpact(section, recomputedTreeCount, detours.size(), disconnectedPairCount,
+                totalDetourCost, worstDetours);
+    }
+
+    public Section getSection() {
+        return section;
+    }
+
+    public int getRecomputedTreeCount() {
+        return recomputedTreeCount;
+    }
+
+    public int getAffectedPairCount() {
+        return affectedPairCount;
+    }
+
+    public int getDisconnectedPairCount() {
+        return disconnectedPairCount;
+    }
+
+    public long getTotalDetourCost() {
+        return totalDetourCost;
+    }
+
+    public List<Detour> getDetours() {
+        return detours;
+    }
+}
@@ -0,0 +1,41 @@
+package nextstep.subway.path.domain;
+
+public class ShortestPathTree {
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final int root;
+    private final int[] distances;
+    private final int[] parentEdges;
+    private final int settledCount;
+
+    public ShortestPathTree(int root, int[] distances, int[] parentEdges, int settledCount) {
+        this.root = root;
+        this.distances = distances;
+        this.parentEdges = parentEdges;
+        this.settledCount = settledCount;
+    }
+
+    public int getRoot() {
+        return root;
+    }
+
+    public boolean isReachable(int station) {
+        return distances[station] != UNREACHABLE;
+    }
+
+    public int distanceOf(int station) {
+        return distances[station];
+    }
+
+    public int parentEdgeOf(int station) {
+        return parentEdges[station];
+    }
+
+    public int[] getParentEdges() {
+        return parentEdges;
+    }
+
+    public int getSettledCount() {
+        return settledCount;
+    }
+}
@@ -2,50 +2,235 @@ package nextstep.subway.path.domain;
 
 import nextstep.subway.line.domain.Line;
 import nextstep.subway.line.domain.PathType;
-import nextstep.subway.line.domain.Section;
-import nextstep.subway.line.domain.Sections;
 import nextstep.subway.station.domain.Station;
-import nextstep.subway.station.domain.Stations;
-import org.jgrapht.GraphPath;
-import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
-import org.jgrapht.graph.WeightedMultigraph;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
-public class SubwayGraph {
-    private WeightedMultigraph<Station, SubwayEdge> graph;
+public class SubwayGraph implements PathFinder {
+    private final CsrGraph graph;
+    private final DijkstraPathFinder dijkstra;
+    private final ParetoPathFinder paretoPathFinder;
+    private final PathFinder pathFinder;
+    private final Map<Integer, PathTree> trees;
+    private volatile LineExpandedGraph lineExpandedGraph;
 
     public SubwayGraph(List<Line> lines, PathType type) {
-        graph = new WeightedMultigraph(SubwayEdge.class);
+        this(lines, type, PathEngine.JGRAPHT);
+    }
+
+    public SubwayGraph(List<Line> lines, PathType type, PathEngine engine) {
+        this(lines, type, engine, PathEngineSettings.defaults());
+    }
+
+    public SubwayGraph(List<Line> lines, PathType type, PathEngine engine, PathEngineSettings settings) {
+        this(new CsrGraph(lines, type), engine, settings);
+    }
+
+    public SubwayGraph(CsrGraph graph, PathEngine engine, PathEngineSettings settings) {
+        this.graph = graph;
+        this.dijkstra = new DijkstraPathFinder(graph);
+        this.paretoPathFinder = new ParetoPathFinder(graph);
+        this.pathFinder = engine.createPathFinder(graph, settings);
+        this.trees = createTreeCache(settings.getTreeCacheCapacity());
+    }
+
+    private SubwayGraph(CsrGraph graph, PathFinder pathFinder, PathEngineSettings settings) {
+        this.graph = graph;
+        this.dijkstra = new DijkstraPathFinder(graph);
+        this.paretoPathFinder = new ParetoPathFinder(graph);
+        this.pathFinder = pathFinder;
+        this.trees = createTreeCache(settings.getTreeCacheCapacity());
+    }
+
+    /**
+     * 변경분을 반영한 그래프(patched)로 옮긴다. 전처리한 엔진은 옮겨 쓸 수 있을 때만 새 그래프에 옮기고,
+     * 이 경로 타입의 비용과 간선 번호가 그대로면 보관한 최단 경로 트리도 이어서 쓴다.
+     * 전처리한 엔진을 옮길 수 없으면 null 을 돌려주므로 호출한 쪽이 다시 전처리해야 한다.
+     */
+    public SubwayGraph patch(CsrGraph patched, PathEngine engine, PathEngineSettings settings) {
+        PathFinder reused = reusePathFinder(patched);
+        if (reused == null) {
+            if (engine.isPreprocessed()) {
+                return null;
+            }
+            reused = engine.createPathFinder(patched, settings);
+        }
+
+        SubwayGraph subwayGraph = new SubwayGraph(patched, reused, settings);
+        if (patched.hasSameCostsAs(graph)) {
+            synchronized (trees) {
+                subwayGraph.trees.putAll(trees);
+            }
+        }
+        return subwayGraph;
+    }
 
-        // 지하철 역(정점)을 등록
-        lines.stream()
-                .flatMap(it -> it.getStations().stream())
-                .distinct()
-                .collect(Collectors.toList())
-                .forEach(it -> graph.addVertex(it));
+    // 비용이 그대로면 CH 를, 비용이 줄지 않았으면 ALT 를 새 그래프로 옮긴다
+    private PathFinder reusePathFinder(CsrGraph patched) {
+        if (pathFinder instanceof ContractionHierarchy && patched.hasSameCostsAs(graph)) {
+            return ((ContractionHierarchy) pathFinder).withGraph(patched);
+        }
+        if (pathFinder instanceof AltPathFinder && patched.isCostNotLoweredFrom(graph)) {
+            return ((AltPathFinder) pathFinder).withGraph(patched);
+        }
+        return null;
+    }
 
-        // 지하철 역의 연결 정보(간선)을 등록
-        lines.stream()
-                .flatMap(it -> it.getSections().getSections().stream())
-                .forEach(it -> graph.setEdgeWeight(createEdge(it), type.findWeightOf(it)));
+    // 그래프가 노선 정보 버전마다 새로 만들어지므로 최단 경로 트리도 버전별로 보관된다. 비용이 그대로인 변경분이면 patch 에서 옮긴다
+    private static Map<Integer, PathTree> createTreeCache(int capacity) {
+        return new LinkedHashMap<Integer, PathTree>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, PathTree> eldest) {
+                return size() > capacity;
+            }
+        };
     }
 
-    private SubwayEdge createEdge(Section section) {
-        SubwayEdge subwayEdge = graph.addEdge(section.getUpStation(), section.getDownStation());
-        subwayEdge.addSection(section);
-        return subwayEdge;
+    public CsrGraph getCsrGraph() {
+        return graph;
     }
 
+    @Override
     public PathResult findPath(Station source, Station target) {
-        // 다익스트라 최단 경로 찾기
-        DijkstraShortestPath dijkstraShortestPath = new DijkstraShortestPath(graph);
-        GraphPath<Station, SubwayEdge> result = dijkstraShortestPath.getPath(source, target);
-        List<Section> sections = result.getEdgeList().stream()
-                .map(it -> it.getSection())
-                .collect(Collectors.toList());
-
-        return new PathResult(new Stations(result.getVertexList()), new Sections(sections));
+        validateConnected(source, target);
+        return pathFinder.findPath(source, target);
+    }
+
+    public PathResult findPath(Station source, Station target, PathMask mask) {
+        if (mask.isEmpty()) {
+            return findPath(source, target);
+        }
+        // 전처리된 엔진은 막힌 구간을 반영할 수 없으므로 공유 그래프 위에서 다익스트라로 찾는다
+        validateConnected(source, target);
+        return dijkstra.findPath(source, target, mask);
+    }
+
+    public PathResult findPath(Station source, Station target, BlendedCost cost) {
+        validateConnected(source, target);
+        return dijkstra.findPath(source, target, cost);
+    }
+
+    @Override
+    public List<PathResult> findPaths(Station source, List<Station> targets) {
+        for (Station target : targets) {
+            validateConnected(source, target);
+        }
+        return pathFinder.findPaths(source, targets);
+    }
+
+    /**
+     * 출발역, 경유역, 도착역(stops)을 차례로 지나는 경로를 같은 그래프에서 찾는다.
+     * 같은 역에서 출발하는 구간들은 한 번의 탐색으로 함께 찾는다.
+     */
+    public PathResult findPathVia(List<Station> stops) {
+        if (stops.size() < 2) {
+            throw new RuntimeException("출발역과 도착역이 필요합니다.");
+        }
+        Map<Station, List<Integer>> legsByOrigin = new LinkedHashMap<>();
+        for (int leg = 0; leg + 1 < stops.size(); leg++) {
+            validateConnected(stops.get(leg), stops.get(leg + 1));
+            legsByOrigin.computeIfAbsent(stops.get(leg), it -> new ArrayList<>()).add(leg);
+        }
+
+        PathResult[] legResults = new PathResult[stops.size() - 1];
+        for (Map.Entry<Station, List<Integer>> entry : legsByOrigin.entrySet()) {
+            List<Integer> legs = entry.getValue();
+            List<Station> targets = legs.stream()
+                    .map(leg -> stops.get(leg + 1))
+                    .collect(Collectors.toList());
+            List<PathResult> pathResults = pathFinder.findPaths(entry.getKey(), targets);
+            for (int i = 0; i < legs.size(); i++) {
+                legResults[legs.get(i)] = pathResults.get(i);
+            }
+        }
+        return PathResult.concat(Arrays.asList(legResults));
+    }
+
+    public PathResult findTransferAwarePath(Station source, Station target, int transferPenalty, int maxTransfers) {
+        validateConnected(source, target);
+        return findLineExpandedGraph().findPath(source, target, transferPenalty, maxTransfers);
+    }
+
+    // 그래프가 노선 정보 버전마다 만들어지므로 노선별로 펼친 그래프도 버전마다 한 번만 만든다
+    private LineExpandedGraph findLineExpandedGraph() {
+        LineExpandedGraph expanded = lineExpandedGraph;
+        if (expanded == null) {
+            synchronized (this) {
+                expanded = lineExpandedGraph;
+                if (expanded == null) {
+                    expanded = new LineExpandedGraph(graph);
+                    lineExpandedGraph = expanded;
+                }
+            }
+        }
+        return expanded;
+    }
+
+    // 연결 요소가 다른 두 역은 탐색하지 않고 바로 경로가 없다고 응답한다
+    private void validateConnected(Station source, Station target) {
+        if (!graph.isConnected(source, target)) {
+            throw new PathNotFoundException();
+        }
+    }
+
+    /**
+     * 모든 역의 최단 경로 트리를 새로 만드는 일괄 분석이므로 결과를 보관하지 않는다.
+     */
+    public List<SectionClosureImpact> analyzeSectionClosures(List<Long> sectionIds, int limit) {
+        return new SectionClosureAnalyzer(graph).analyze(sectionIds, limit);
+    }
+
+    public PathTree findTree(Station source) {
+        int sourceIndex = graph.indexOf(source);
+        if (sourceIndex == CsrGraph.NO_STATION) {
+            throw new RuntimeException("노선에 등록되지 않은 역입니다.");
+        }
+
+        PathTree cached = findCachedTree(sourceIndex);
+        if (cached != null) {
+            return cached;
+        }
+        PathTree tree = new PathTree(graph, dijkstra.findTree(sourceIndex));
+        cacheTree(sourceIndex, tree);
+        return tree;
+    }
+
+    public AlternativePaths findAlternativePaths(Station source, Station target, int k, int settleLimit) {
+        if (k < 1) {
+            throw new RuntimeException("경로 개수는 1 이상이어야 합니다.");
+        }
+        validateConnected(source, target);
+        // 도착역을 루트로 하는 트리는 같은 도착역의 다음 요청에서도 재사용된다
+        PathTree targetTree = findTree(target);
+        return new KShortestPathFinder(graph, targetTree.getShortestPathTree(), settleLimit).findPaths(source, k);
+    }
+
+    public ParetoPaths findParetoPaths(Station source, Station target) {
+        validateConnected(source, target);
+        return paretoPathFinder.findPaths(source, target);
+    }
+
+    public Isochrone findIsochrone(Station source, int budget) {
+        if (budget < 0) {
+            throw new RuntimeException("탐색 비용은 0 이상이어야 합니다.");
+        }
+        return dijkstra.findIsochrone(source, budget);
+    }
+
+    private PathTree findCachedTree(int source) {
+        synchronized (trees) {
+            return trees.get(source);
+        }
+    }
+
+    private void cacheTree(int source, PathTree tree) {
+        synchronized (trees) {
+            trees.put(source, tree);
+        }
     }
 }
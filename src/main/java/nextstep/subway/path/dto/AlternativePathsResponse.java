@@ -0,0 +1,53 @@
+package nextstep.subway.path.dto;
+
+import nextstep.subway.path.domain.AlternativePaths;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class AlternativePathsResponse {
+    private List<PathResponse> paths;
+    private int settledCount;
+    private int spurSearchCount;
+    private int prunedSpurCount;
+    private boolean truncated;
+
+    public AlternativePathsResponse() {
+    }
+
+    public AlternativePathsResponse(List<PathResponse> paths, int settledCount, int spurSearchCount, int prunedSpurCount, boolean truncated) {
+        this.paths = paths;
+        this.settledCount = settledCount;
+        this.spurSearchCount = spurSearchCount;
+        this.prunedSpurCount = prunedSpurCount;
+        this.truncated = truncated;
+    }
+
+    public static AlternativePathsResponse of(AlternativePaths alternativePaths) {
+        List<PathResponse> paths = alternativePaths.getPaths().stream()
+                .map(PathResponse::of)
+                .collect(Collectors.toList());
+        return new AlternativePathsResponse(paths, alternativePaths.getSettledCount(), alternativePaths.getSpurSearchCount(),
+                alternativePaths.getPrunedSpurCount(), alternativePaths.isTruncated());
+    }
+
+    public List<PathResponse> getPaths() {
+        return paths;
+    }
+
+    public int getSettledCount() {
+        return settledCount;
+    }
+
+    public int getSpurSearchCount() {
+        return spurSearchCount;
+    }
+
+    public int getPrunedSpurCount() {
+        return prunedSpurCount;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -0,0 +1,36 @@
+package nextstep.subway.path.dto;
+
+/**
+ * 여러 경로 조회에서 요청 하나의 결과. 경로를 찾지 못한 요청은 경로 대신 오류 코드를 담는다.
+ */
+public class BatchPathResponse {
+    public static final String STATION_NOT_FOUND = "STATION_NOT_FOUND";
+    public static final String PATH_NOT_FOUND = "PATH_NOT_FOUND";
+
+    private PathResponse path;
+    private String error;
+
+    public BatchPathResponse() {
+    }
+
+    public BatchPathResponse(PathResponse path, String error) {
+        this.path = path;
+        this.error = error;
+    }
+
+    public static BatchPathResponse of(PathResponse path) {
+        return new BatchPathResponse(path, null);
+    }
+
+    public static BatchPathResponse error(String error) {
+        return new BatchPathResponse(null, error);
+    }
+
+    public PathResponse getPath() {
+        return path;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
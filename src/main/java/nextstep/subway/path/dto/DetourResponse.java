@@ -0,0 +1,51 @@
+package nextstep.subway.path.dto;
+
+import nextstep.subway.path.domain.Detour;
+import nextstep.subway.station.dto.StationResponse;
+
+public class DetourResponse {
+    private StationResponse source;
+    private StationResponse target;
+    private int cost;
+    private Integer closedCost;
+    private Integer detourCost;
+
+    public DetourResponse() {
+    }
+
+    public DetourResponse(StationResponse source, StationResponse target, int cost, Integer closedCost, Integer detourCost) {
+        this.source = source;
+        this.target = target;
+        this.cost = cost;
+        this.closedCost = closedCost;
+        this.detourCost = detourCost;
+    }
+
+    // 갈 수 없게 된 쌍은 닫은 뒤의 비용과 늘어난 비용을 비워 둔다
+    public static DetourResponse of(Detour detour) {
+        Integer closedCost = detour.isDisconnected() ? null : detour.getClosedCost();
+        Integer detourCost = detour.isDisconnected() ? null : detour.getDetourCost();
+        return new DetourResponse(StationResponse.of(detour.getSource()), StationResponse.of(detour.getTarget()),
+                detour.getCost(), closedCost, detourCost);
+    }
+
+    public StationResponse getSource() {
+        return source;
+    }
+
+    public StationResponse getTarget() {
+        return target;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public Integer getClosedCost() {
+        return closedCost;
+    }
+
+    public Integer getDetourCost() {
+        return detourCost;
+    }
+}
@@ -0,0 +1,42 @@
+package nextstep.subway.path.dto;
+
+import nextstep.subway.path.domain.Isochrone;
+import nextstep.subway.station.dto.StationResponse;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class IsochroneResponse {
+    private StationResponse source;
+    private int budget;
+    private List<StationCostResponse> stations;
+
+    public IsochroneResponse() {
+    }
+
+    public IsochroneResponse(StationResponse source, int budget, List<StationCostResponse> stations) {
+        this.source = source;
+        this.budget = budget;
+        this.stations = stations;
+    }
+
+    public static IsochroneResponse of(Isochrone isochrone) {
+        List<StationCostResponse> stations = IntStream.range(0, isochrone.getStations().size())
+                .mapToObj(i -> new StationCostResponse(StationResponse.of(isochrone.getStations().get(i)), isochrone.costOf(i), null))
+                .collect(Collectors.toList());
+        return new IsochroneResponse(StationResponse.of(isochrone.getSource()), isochrone.getBudget(), stations);
+    }
+
+    public StationResponse getSource() {
+        return source;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public List<StationCostResponse> getStations() {
+        return stations;
+    }
+}
@@ -0,0 +1,34 @@
+package nextstep.subway.path.dto;
+
+import nextstep.subway.path.domain.ParetoPaths;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ParetoPathsResponse {
+    private List<PathResponse> paths;
+    private int settledLabelCount;
+
+    public ParetoPathsResponse() {
+    }
+
+    public ParetoPathsResponse(List<PathResponse> paths, int settledLabelCount) {
+        this.paths = paths;
+        this.settledLabelCount = settledLabelCount;
+    }
+
+    public static ParetoPathsResponse of(ParetoPaths paretoPaths) {
+        List<PathResponse> paths = paretoPaths.getPaths().stream()
+                .map(PathResponse::of)
+                .collect(Collectors.toList());
+        return new ParetoPathsResponse(paths, paretoPaths.getSettledLabelCount());
+    }
+
+    public List<PathResponse> getPaths() {
+        return paths;
+    }
+
+    public int getSettledLabelCount() {
+        return settledLabelCount;
+    }
+}
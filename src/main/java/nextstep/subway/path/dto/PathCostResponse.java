@@ -0,0 +1,22 @@
+package nextstep.subway.path.dto;
+
+public class PathCostResponse {
+    private int distance;
+    private int duration;
+
+    public PathCostResponse() {
+    }
+
+    public PathCostResponse(int distance, int duration) {
+        this.distance = distance;
+        this.duration = duration;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+}
@@ -0,0 +1,28 @@
+package nextstep.subway.path.dto;
+
+/**
+ * 경로 조회가 실패했을 때 응답 본문. 오류 코드와 함께 사람이 읽을 수 있는 메시지를 담는다.
+ */
+public class PathErrorResponse {
+    public static final String PATH_NOT_FOUND = "PATH_NOT_FOUND";
+    public static final String INVALID_REQUEST = "INVALID_REQUEST";
+
+    private String error;
+    private String message;
+
+    public PathErrorResponse() {
+    }
+
+    public PathErrorResponse(String error, String message) {
+        this.error = error;
+        this.message = message;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
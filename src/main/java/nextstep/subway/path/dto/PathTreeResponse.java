@@ -0,0 +1,35 @@
+package nextstep.subway.path.dto;
+
+import nextstep.subway.path.domain.PathTree;
+import nextstep.subway.station.dto.StationResponse;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class PathTreeResponse {
+    private StationResponse source;
+    private List<StationCostResponse> stations;
+
+    public PathTreeResponse() {
+    }
+
+    public PathTreeResponse(StationResponse source, List<StationCostResponse> stations) {
+        this.source = source;
+        this.stations = stations;
+    }
+
+    public static PathTreeResponse of(PathTree pathTree, boolean predecessors) {
+        List<StationCostResponse> stations = pathTree.getReachableStations().stream()
+                .map(it -> StationCostResponse.of(pathTree, it, predecessors))
+                .collect(Collectors.toList());
+        return new PathTreeResponse(StationResponse.of(pathTree.getSource()), stations);
+    }
+
+    public StationResponse getSource() {
+        return source;
+    }
+
+    public List<StationCostResponse> getStations() {
+        return stations;
+    }
+}
@@ -0,0 +1,76 @@
+package nextstep.subway.path.dto;
+
+import nextstep.subway.path.domain.SectionClosureImpact;
+import nextstep.subway.station.dto.StationResponse;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class SectionClosureImpactResponse {
+    private Long sectionId;
+    private StationResponse upStation;
+    private StationResponse downStation;
+    private int recomputedTreeCount;
+    private int affectedPairCount;
+    private int disconnectedPairCount;
+    private long totalDetourCost;
+    private List<DetourResponse> detours;
+
+    public SectionClosureImpactResponse() {
+    }
+
+    public SectionClosureImpactResponse(Long sectionId, StationResponse upStation, StationResponse downStation,
+                                        int recomputedTreeCount, int affectedPairCount, int disconnectedPairCount,
+                                        long totalDetourCost, List<DetourResponse> detours) {
+        this.sectionId = sectionId;
+        this.upStation = upStation;
+        this.downStation = downStation;
+        this.recomputedTreeCount = recomputedTreeCount;
+        this.affectedPairCount = affectedPairCount;
+        this.disconnectedPairCount = disconnectedPairCount;
+        this.totalDetourCost = totalDetourCost;
+        this.detours = detours;
+    }
+
+    public static SectionClosureImpactResponse of(SectionClosureImpact impact) {
+        List<DetourResponse> detours = impact.getDetours().stream()
+                .map(DetourResponse::of)
+                .collect(Collectors.toList());
+        return new SectionClosureImpactResponse(impact.getSection().getId(),
+                StationResponse.of(impact.getSection().getUpStation()), StationResponse.of(impact.getSection().getDownStation()),
+                impact.getRecomputedTreeCount(), impact.getAffectedPairCount(), impact.getDisconnectedPairCount(),
+                impact.getTotalDetourCost(), detours);
+    }
+
+    public Long getSectionId() {
+        return sectionId;
+    }
+
+    public StationResponse getUpStation() {
+        return upStation;
+    }
+
+    public StationResponse getDownStation() {
+        return downStation;
+    }
+
+    public int getRecomputedTreeCount() {
+        return recomputedTreeCount;
+    }
+
+    public int getAffectedPairCount() {
+        return affectedPairCount;
+    }
+
+    public int getDisconnectedPairCount() {
+        return disconnectedPairCount;
+    }
+
+    public long getTotalDetourCost() {
+        return totalDetourCost;
+    }
+
+    public List<DetourResponse> getDetours() {
+        return detours;
+    }
+}
@@ -0,0 +1,38 @@
+package nextstep.subway.path.dto;
+
+import nextstep.subway.path.domain.PathTree;
+import nextstep.subway.station.domain.Station;
+import nextstep.subway.station.dto.StationResponse;
+
+public class StationCostResponse {
+    private StationResponse station;
+    private int cost;
+    private Long previousStationId;
+
+    public StationCostResponse() {
+    }
+
+    public StationCostResponse(StationResponse station, int cost, Long previousStationId) {
+        this.station = station;
+        this.cost = cost;
+        this.previousStationId = previousStationId;
+    }
+
+    public static StationCostResponse of(PathTree pathTree, Station station, boolean predecessors) {
+        Station previousStation = predecessors ? pathTree.previousStationOf(station) : null;
+        Long previousStationId = previousStation == null ? null : previousStation.getId();
+        return new StationCostResponse(StationResponse.of(station), pathTree.costOf(station), previousStationId);
+    }
+
+    public StationResponse getStation() {
+        return station;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public Long getPreviousStationId() {
+        return previousStationId;
+    }
+}
@@ -0,0 +1,44 @@
+package nextstep.subway.path.dto;
+
+import nextstep.subway.path.domain.PathResult;
+import nextstep.subway.station.dto.StationResponse;
+
+import java.util.List;
+
+public class TransferPathResponse {
+    private List<StationResponse> stations;
+    private int distance;
+    private int duration;
+    private int transferCount;
+
+    public TransferPathResponse() {
+    }
+
+    public TransferPathResponse(List<StationResponse> stations, int distance, int duration, int transferCount) {
+        this.stations = stations;
+        this.distance = distance;
+        this.duration = duration;
+        this.transferCount = transferCount;
+    }
+
+    public static TransferPathResponse of(PathResult pathResult) {
+        return new TransferPathResponse(StationResponse.listOf(pathResult.getStations()),
+                pathResult.getTotalDistance(), pathResult.getTotalDuration(), pathResult.getTransferCount());
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
+    public int getTransferCount() {
+        return transferCount;
+    }
+}
@@ -1,13 +1,35 @@
 package nextstep.subway.path.ui;
 
 import nextstep.subway.line.domain.PathType;
+import nextstep.subway.path.application.InvalidPathRequestException;
 import nextstep.subway.path.application.PathService;
+import nextstep.subway.path.application.RoutingUnavailableException;
+import nextstep.subway.path.domain.PathNotFoundException;
+import nextstep.subway.path.domain.SearchCancelledException;
+import nextstep.subway.path.dto.AlternativePathsResponse;
+import nextstep.subway.path.dto.BatchPathResponse;
+import nextstep.subway.path.dto.IsochroneResponse;
+import nextstep.subway.path.dto.ParetoPathsResponse;
+import nextstep.subway.path.dto.PathCostResponse;
+import nextstep.subway.path.dto.PathErrorResponse;
+import nextstep.subway.path.dto.PathRequest;
 import nextstep.subway.path.dto.PathResponse;
+import nextstep.subway.path.dto.PathTreeResponse;
+import nextstep.subway.path.dto.SectionClosureImpactResponse;
+import nextstep.subway.path.dto.TransferPathResponse;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 public class PathController {
     private PathService pathService;
@@ -17,7 +39,86 @@ public class PathController {
     }
 
     @GetMapping("/paths")
-    public ResponseEntity<PathResponse> findPath(@RequestParam Long source, @RequestParam Long target, @RequestParam PathType type) {
-        return ResponseEntity.ok(pathService.findPath(source, target, type));
+    public CompletableFuture<ResponseEntity<PathResponse>> findPath(@RequestParam Long source, @RequestParam Long target,
+                                                                    @RequestParam PathType type,
+                                                                    @RequestParam(defaultValue = "") List<Long> avoidStations,
+                                                                    @RequestParam(defaultValue = "") List<Long> avoidSections) {
+        return pathService.findPathAsync(source, target, type, avoidStations, avoidSections).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/paths/via")
+    public ResponseEntity<PathResponse> findPathVia(@RequestParam Long source, @RequestParam Long target,
+                                                    @RequestParam PathType type, @RequestParam List<Long> via) {
+        return ResponseEntity.ok(pathService.findPathVia(source, via, target, type));
+    }
+
+    @GetMapping("/paths/transfer")
+    public ResponseEntity<TransferPathResponse> findTransferAwarePath(@RequestParam Long source, @RequestParam Long target,
+                                                                      @RequestParam PathType type,
+                                                                      @RequestParam(defaultValue = "0") int transferPenalty,
+                                                                      @RequestParam(required = false) Integer maxTransfers) {
+        return ResponseEntity.ok(pathService.findTransferAwarePath(source, target, type, transferPenalty, maxTransfers));
+    }
+
+    @GetMapping("/paths/cost")
+    public ResponseEntity<PathCostResponse> findPathCost(@RequestParam Long source, @RequestParam Long target) {
+        return ResponseEntity.ok(pathService.findPathCost(source, target));
+    }
+
+    @GetMapping("/paths/from/{source}")
+    public ResponseEntity<PathTreeResponse> findPathTree(@PathVariable Long source, @RequestParam PathType type,
+                                                         @RequestParam(defaultValue = "false") boolean predecessors) {
+        return ResponseEntity.ok(pathService.findPathTree(source, type, predecessors));
+    }
+
+    @GetMapping("/paths/alternatives")
+    public ResponseEntity<AlternativePathsResponse> findAlternativePaths(@RequestParam Long source, @RequestParam Long target,
+                                                                         @RequestParam PathType type,
+                                                                         @RequestParam(defaultValue = "3") int k) {
+        return ResponseEntity.ok(pathService.findAlternativePaths(source, target, type, k));
+    }
+
+    @GetMapping("/paths/pareto")
+    public ResponseEntity<ParetoPathsResponse> findParetoPaths(@RequestParam Long source, @RequestParam Long target) {
+        return ResponseEntity.ok(pathService.findParetoPaths(source, target));
+    }
+
+    @GetMapping("/paths/blended")
+    public ResponseEntity<PathResponse> findBlendedPath(@RequestParam Long source, @RequestParam Long target,
+                                                        @RequestParam(defaultValue = "1") int distanceWeight,
+                                                        @RequestParam(defaultValue = "1") int durationWeight) {
+        return ResponseEntity.ok(pathService.findBlendedPath(source, target, distanceWeight, durationWeight));
+    }
+
+    @GetMapping("/paths/isochrone")
+    public ResponseEntity<IsochroneResponse> findIsochrone(@RequestParam Long source, @RequestParam PathType type, @RequestParam int budget) {
+        return ResponseEntity.ok(pathService.findIsochrone(source, type, budget));
+    }
+
+    @GetMapping("/paths/closure-impacts")
+    public CompletableFuture<ResponseEntity<List<SectionClosureImpactResponse>>> analyzeSectionClosures(@RequestParam PathType type,
+                                                                                                        @RequestParam(defaultValue = "") List<Long> sections,
+                                                                                                        @RequestParam(defaultValue = "10") int limit) {
+        return pathService.analyzeSectionClosures(type, sections, limit).thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping("/paths/batch")
+    public ResponseEntity<List<BatchPathResponse>> findPaths(@RequestBody List<PathRequest> pathRequests) {
+        return ResponseEntity.ok(pathService.findPaths(pathRequests));
+    }
+
+    @ExceptionHandler(PathNotFoundException.class)
+    public ResponseEntity<PathErrorResponse> handlePathNotFoundException(PathNotFoundException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new PathErrorResponse(PathErrorResponse.PATH_NOT_FOUND, e.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidPathRequestException.class)
+    public ResponseEntity<PathErrorResponse> handleInvalidPathRequestException(InvalidPathRequestException e) {
+        return ResponseEntity.badRequest().body(new PathErrorResponse(PathErrorResponse.INVALID_REQUEST, e.getMessage()));
+    }
+
+    @ExceptionHandler({RoutingUnavailableException.class, SearchCancelledException.class})
+    public ResponseEntity handleRoutingUnavailableException(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
     }
 }
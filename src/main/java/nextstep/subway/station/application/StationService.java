@@ -1,5 +1,6 @@
 package nextstep.subway.station.application;
 
+import nextstep.subway.common.NetworkVersion;
 import nextstep.subway.station.domain.Station;
 import nextstep.subway.station.domain.StationRepository;
 import nextstep.subway.station.dto.StationRequest;
@@ -15,9 +16,11 @@ import java.util.stream.Collectors;
 @Transactional
 public class StationService {
     private StationRepository stationRepository;
+    private NetworkVersion networkVersion;
 
-    public StationService(StationRepository stationRepository) {
+    public StationService(StationRepository stationRepository, NetworkVersion networkVersion) {
         this.stationRepository = stationRepository;
+        this.networkVersion = networkVersion;
     }
 
     public StationResponse saveStation(StationRequest stationRequest) {
@@ -41,6 +44,7 @@ public class StationService {
 
     public void deleteStationById(Long id) {
         stationRepository.deleteById(id);
+        networkVersion.increase();
     }
 
     public Station findStationById(Long id) {
@@ -2,6 +2,7 @@ package nextstep.study;
 
 
 import com.google.common.collect.Lists;
+import nextstep.subway.common.NetworkVersion;
 import nextstep.subway.line.application.LineService;
 import nextstep.subway.line.domain.Line;
 import nextstep.subway.line.domain.LineRepository;
@@ -30,7 +31,7 @@ public class MockitoExtensionTest {
     void findAllLines() {
         // given
         when(lineRepository.findAll()).thenReturn(Lists.newArrayList(new Line()));
-        LineService lineService = new LineService(lineRepository, stationService);
+        LineService lineService = new LineService(lineRepository, stationService, new NetworkVersion());
 
         // when
         List<LineResponse> responses = lineService.findLineResponses();
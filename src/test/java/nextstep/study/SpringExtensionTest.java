@@ -1,6 +1,7 @@
 package nextstep.study;
 
 import com.google.common.collect.Lists;
+import nextstep.subway.common.NetworkVersion;
 import nextstep.subway.line.application.LineService;
 import nextstep.subway.line.domain.Line;
 import nextstep.subway.line.domain.LineRepository;
@@ -28,7 +29,7 @@ public class SpringExtensionTest {
     void findLines() {
         // given
         when(lineRepository.findAll()).thenReturn(Lists.newArrayList(new Line()));
-        LineService lineService = new LineService(lineRepository, stationService);
+        LineService lineService = new LineService(lineRepository, stationService, new NetworkVersion());
 
         // when
         List<LineResponse> responses = lineService.findLineResponses();
@@ -0,0 +1,77 @@
+package nextstep.subway.line.domain;
+
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SectionSnapshotTest {
+    private Station 강남역;
+    private Station 역삼역;
+    private Station 삼성역;
+    private Line line;
+
+    @BeforeEach
+    void setUp() {
+        강남역 = new Station("강남역");
+        역삼역 = new Station("역삼역");
+        삼성역 = new Station("삼성역");
+        line = new Line("2호선", "green");
+        line.addSection(강남역, 역삼역, 10, 10);
+    }
+
+    @DisplayName("구간을 끝에 추가하면 추가된 구간만 변경분이 된다.")
+    @Test
+    void addSection() {
+        // given
+        SectionSnapshot before = SectionSnapshot.of(line);
+
+        // when
+        line.addSection(역삼역, 삼성역, 5, 5);
+
+        // then
+        List<SectionDelta> deltas = before.changesOf(line);
+        assertThat(deltas).extracting(SectionDelta::getType).containsExactly(SectionDeltaType.ADDED);
+        assertThat(deltas.get(0).getSection().getUpStation()).isEqualTo(역삼역);
+    }
+
+    @DisplayName("구간을 중간에 추가하면 쪼개진 구간은 지우고 새로 더한다.")
+    @Test
+    void addSectionInMiddle() {
+        // given
+        SectionSnapshot before = SectionSnapshot.of(line);
+
+        // when
+        line.addSection(강남역, 삼성역, 4, 4);
+
+        // then
+        List<SectionDelta> deltas = before.changesOf(line);
+        assertThat(deltas).extracting(SectionDelta::getType)
+                .containsExactly(SectionDeltaType.REMOVED, SectionDeltaType.ADDED, SectionDeltaType.ADDED);
+        assertThat(deltas.get(0).getSection().getUpStation()).isEqualTo(강남역);
+        assertThat(deltas.get(0).getSection().getDistance()).isEqualTo(10);
+        assertThat(deltas.get(1).getSection().getUpStation()).isEqualTo(삼성역);
+        assertThat(deltas.get(1).getSection().getDistance()).isEqualTo(6);
+    }
+
+    @DisplayName("중간역을 제거하면 두 구간을 지우고 합친 구간을 더한다.")
+    @Test
+    void removeSection() {
+        // given
+        line.addSection(역삼역, 삼성역, 5, 5);
+        SectionSnapshot before = SectionSnapshot.of(line);
+
+        // when
+        line.removeSection(역삼역);
+
+        // then
+        List<SectionDelta> deltas = before.changesOf(line);
+        assertThat(deltas).extracting(SectionDelta::getType)
+                .containsExactly(SectionDeltaType.REMOVED, SectionDeltaType.REMOVED, SectionDeltaType.ADDED);
+        assertThat(deltas.get(2).getSection().getDistance()).isEqualTo(15);
+    }
+}
@@ -4,12 +4,18 @@ import com.google.common.collect.Lists;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import nextstep.subway.AcceptanceTest;
+import nextstep.subway.line.domain.PathType;
 import nextstep.subway.line.dto.LineResponse;
+import nextstep.subway.path.dto.BatchPathResponse;
+import nextstep.subway.path.dto.PathRequest;
 import nextstep.subway.station.dto.StationResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static nextstep.subway.line.acceptance.LineSteps.지하철_노선에_지하철역_등록_요청;
 import static nextstep.subway.path.acceptance.PathSteps.*;
 import static nextstep.subway.station.StationSteps.지하철역_등록되어_있음;
@@ -59,4 +65,178 @@ public class PathAcceptanceTest extends AcceptanceTest {
         // then
         경로_응답됨(response, Lists.newArrayList(교대역.getId(), 강남역.getId(), 양재역.getId()), 20, 20);
     }
+
+    @DisplayName("제외한 역을 지나지 않는 최단 거리 경로를 조회한다.")
+    @Test
+    void findPathAvoidingStation() {
+        // when
+        ExtractableResponse<Response> response = 역을_제외한_최단_거리_경로_조회를_요청(양재역.getId(), 교대역.getId(), 남부터미널역.getId());
+
+        // then
+        경로_응답됨(response, Lists.newArrayList(양재역.getId(), 강남역.getId(), 교대역.getId()), 20, 20);
+    }
+
+    @DisplayName("출발역이나 도착역을 제외하고 경로를 조회하면 잘못된 요청으로 응답한다.")
+    @Test
+    void findPathAvoidingSourceStation() {
+        // when
+        ExtractableResponse<Response> avoidingSource = 역을_제외한_최단_거리_경로_조회를_요청(양재역.getId(), 교대역.getId(), 양재역.getId());
+        ExtractableResponse<Response> avoidingTarget = 역을_제외한_최단_거리_경로_조회를_요청(양재역.getId(), 교대역.getId(), 교대역.getId());
+
+        // then
+        잘못된_경로_요청_응답됨(avoidingSource, "출발역과 도착역은 제외할 수 없습니다.");
+        잘못된_경로_요청_응답됨(avoidingTarget, "출발역과 도착역은 제외할 수 없습니다.");
+    }
+
+    @DisplayName("거리와 소요 시간에 계수를 곱해 더한 비용이 가장 작은 경로를 조회한다.")
+    @Test
+    void findBlendedPath() {
+        // when
+        ExtractableResponse<Response> response = 거리와_소요_시간을_섞은_경로_조회를_요청(교대역.getId(), 양재역.getId(), 1, 0);
+
+        // then
+        경로_응답됨(response, Lists.newArrayList(교대역.getId(), 남부터미널역.getId(), 양재역.getId()), 5, 20);
+    }
+
+    @DisplayName("경유역을 지나는 최단 거리 경로를 조회한다.")
+    @Test
+    void findPathVia() {
+        // when
+        ExtractableResponse<Response> response = 경유역을_지나는_최단_거리_경로_조회를_요청(양재역.getId(), 강남역.getId(), 교대역.getId());
+
+        // then
+        경로_응답됨(response, Lists.newArrayList(양재역.getId(), 강남역.getId(), 교대역.getId()), 20, 20);
+    }
+
+    @DisplayName("환승 비용을 더해 환승이 적은 최소 소요 시간 경로를 조회한다.")
+    @Test
+    void findTransferAwarePath() {
+        // when
+        ExtractableResponse<Response> response = 환승_비용을_더한_최소_소요_시간_경로_조회를_요청(교대역.getId(), 양재역.getId(), 5);
+
+        // then
+        환승_경로_응답됨(response, Lists.newArrayList(교대역.getId(), 남부터미널역.getId(), 양재역.getId()), 0);
+    }
+
+    @DisplayName("두 역의 최단 거리와 최소 소요 시간을 조회한다.")
+    @Test
+    void findPathCost() {
+        // when
+        ExtractableResponse<Response> response = 두_역의_최단_비용_조회를_요청(교대역.getId(), 양재역.getId());
+
+        // then
+        비용_응답됨(response, 5, 20);
+    }
+
+    @DisplayName("한 역에서 모든 역까지의 최단 거리를 조회한다.")
+    @Test
+    void findPathTree() {
+        // when
+        ExtractableResponse<Response> response = 한_역에서_모든_역까지의_경로_조회를_요청(양재역.getId(), "DISTANCE");
+
+        // then
+        모든_역까지의_비용_응답됨(response, 교대역.getId(), 5, 남부터미널역.getId());
+        모든_역까지의_비용_응답됨(response, 강남역.getId(), 10, 양재역.getId());
+    }
+
+    @DisplayName("두 역의 대안 경로를 짧은 순서로 조회한다.")
+    @Test
+    void findAlternativePaths() {
+        // when
+        ExtractableResponse<Response> response = 두_역의_대안_경로_조회를_요청(양재역.getId(), 교대역.getId(), 3);
+
+        // then
+        대안_경로_응답됨(response, Arrays.asList(
+                Arrays.asList(양재역.getId(), 남부터미널역.getId(), 교대역.getId()),
+                Arrays.asList(양재역.getId(), 강남역.getId(), 교대역.getId())));
+    }
+
+    @DisplayName("거리와 소요 시간 모두에서 다른 경로에 뒤지지 않는 경로들을 조회한다.")
+    @Test
+    void findParetoPaths() {
+        // when
+        ExtractableResponse<Response> response = 두_역의_거리와_소요_시간_최적_경로_조회를_요청(교대역.getId(), 양재역.getId());
+
+        // then
+        최적_경로들_응답됨(response, Arrays.asList(Arrays.asList(교대역.getId(), 남부터미널역.getId(), 양재역.getId())));
+    }
+
+    @DisplayName("정해진 시간 안에 도달할 수 있는 역을 조회한다.")
+    @Test
+    void findIsochrone() {
+        // when
+        ExtractableResponse<Response> response = 정해진_시간_안에_도달할_수_있는_역_조회를_요청(양재역.getId(), 10);
+
+        // then
+        도달할_수_있는_역_응답됨(response, Lists.newArrayList(양재역.getId(), 강남역.getId(), 남부터미널역.getId()));
+    }
+
+    @DisplayName("구간을 하나씩 닫았을 때 영향이 큰 구간 순서로 가장 크게 늘어나는 비용을 조회한다.")
+    @Test
+    void analyzeSectionClosures() {
+        // when
+        ExtractableResponse<Response> response = 모든_구간을_닫았을_때의_영향_분석을_요청(1);
+
+        // then
+        구간을_닫았을_때의_영향_응답됨(response, Arrays.asList(
+                Arrays.asList(교대역.getId(), 남부터미널역.getId()),
+                Arrays.asList(남부터미널역.getId(), 양재역.getId()),
+                Arrays.asList(교대역.getId(), 강남역.getId()),
+                Arrays.asList(강남역.getId(), 양재역.getId())), Arrays.asList(21, 19, 5, 5));
+    }
+
+    @DisplayName("여러 경로를 한 번에 조회한다.")
+    @Test
+    void findPaths() {
+        // given
+        List<PathRequest> pathRequests = Arrays.asList(
+                new PathRequest(양재역.getId(), 교대역.getId(), PathType.DISTANCE),
+                new PathRequest(교대역.getId(), 양재역.getId(), PathType.DURATION),
+                new PathRequest(양재역.getId(), 강남역.getId(), PathType.DISTANCE));
+
+        // when
+        ExtractableResponse<Response> response = 여러_경로_조회를_요청(pathRequests);
+
+        // then
+        여러_경로_응답됨(response, Arrays.asList(
+                Arrays.asList(양재역.getId(), 남부터미널역.getId(), 교대역.getId()),
+                Arrays.asList(교대역.getId(), 강남역.getId(), 양재역.getId()),
+                Arrays.asList(양재역.getId(), 강남역.getId())));
+    }
+
+    @DisplayName("여러 경로를 한 번에 조회할 때 찾을 수 없는 경로가 있어도 나머지 경로는 응답한다.")
+    @Test
+    void findPathsWithUnreachablePair() {
+        // given
+        StationResponse 판교역 = 지하철역_등록되어_있음("판교역").as(StationResponse.class);
+        StationResponse 정자역 = 지하철역_등록되어_있음("정자역").as(StationResponse.class);
+        지하철_노선_등록되어_있음("경강선", "blue", 판교역, 정자역, 10, 10);
+        List<PathRequest> pathRequests = Arrays.asList(
+                new PathRequest(양재역.getId(), 교대역.getId(), PathType.DISTANCE),
+                new PathRequest(교대역.getId(), 정자역.getId(), PathType.DISTANCE),
+                new PathRequest(교대역.getId(), Long.MAX_VALUE, PathType.DISTANCE));
+
+        // when
+        ExtractableResponse<Response> response = 여러_경로_조회를_요청(pathRequests);
+
+        // then
+        여러_경로_응답됨(response, Arrays.asList(
+                Arrays.asList(양재역.getId(), 남부터미널역.getId(), 교대역.getId()), null, null));
+        경로별_오류_응답됨(response, Arrays.asList(null, BatchPathResponse.PATH_NOT_FOUND, BatchPathResponse.STATION_NOT_FOUND));
+    }
+
+    @DisplayName("연결되지 않은 두 역의 경로를 조회하면 경로가 없다고 응답한다.")
+    @Test
+    void findPathBetweenDisconnectedStations() {
+        // given
+        StationResponse 판교역 = 지하철역_등록되어_있음("판교역").as(StationResponse.class);
+        StationResponse 정자역 = 지하철역_등록되어_있음("정자역").as(StationResponse.class);
+        지하철_노선_등록되어_있음("경강선", "blue", 판교역, 정자역, 10, 10);
+
+        // when
+        ExtractableResponse<Response> response = 두_역의_최단_거리_경로_조회를_요청(교대역.getId(), 정자역.getId());
+
+        // then
+        경로_없음_응답됨(response);
+    }
 }
@@ -5,10 +5,23 @@ import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import nextstep.subway.line.dto.LineRequest;
 import nextstep.subway.line.dto.LineResponse;
+import nextstep.subway.path.dto.AlternativePathsResponse;
+import nextstep.subway.path.dto.BatchPathResponse;
+import nextstep.subway.path.dto.IsochroneResponse;
+import nextstep.subway.path.dto.ParetoPathsResponse;
+import nextstep.subway.path.dto.PathCostResponse;
+import nextstep.subway.path.dto.PathErrorResponse;
+import nextstep.subway.path.dto.PathRequest;
 import nextstep.subway.path.dto.PathResponse;
+import nextstep.subway.path.dto.PathTreeResponse;
+import nextstep.subway.path.dto.SectionClosureImpactResponse;
+import nextstep.subway.path.dto.StationCostResponse;
+import nextstep.subway.path.dto.TransferPathResponse;
 import nextstep.subway.station.dto.StationResponse;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -32,6 +45,54 @@ public class PathSteps {
                 .then().log().all().extract();
     }
 
+    public static ExtractableResponse<Response> 역을_제외한_최단_거리_경로_조회를_요청(Long source, Long target, Long avoidStation) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .queryParam("source", source)
+                .queryParam("target", target)
+                .queryParam("type", "DISTANCE")
+                .queryParam("avoidStations", avoidStation)
+                .when().get("/paths")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 거리와_소요_시간을_섞은_경로_조회를_요청(Long source, Long target, int distanceWeight, int durationWeight) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .queryParam("source", source)
+                .queryParam("target", target)
+                .queryParam("distanceWeight", distanceWeight)
+                .queryParam("durationWeight", durationWeight)
+                .when().get("/paths/blended")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 경유역을_지나는_최단_거리_경로_조회를_요청(Long source, Long via, Long target) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .queryParam("source", source)
+                .queryParam("target", target)
+                .queryParam("type", "DISTANCE")
+                .queryParam("via", via)
+                .when().get("/paths/via")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 환승_비용을_더한_최소_소요_시간_경로_조회를_요청(Long source, Long target, int transferPenalty) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .queryParam("source", source)
+                .queryParam("target", target)
+                .queryParam("type", "DURATION")
+                .queryParam("transferPenalty", transferPenalty)
+                .when().get("/paths/transfer")
+                .then().log().all().extract();
+    }
+
     public static ExtractableResponse<Response> 두_역의_최소_소요_시간_경로_조회를_요청(Long source, Long target) {
         return RestAssured
                 .given().log().all()
@@ -43,6 +104,79 @@ public class PathSteps {
                 .then().log().all().extract();
     }
 
+    public static ExtractableResponse<Response> 두_역의_최단_비용_조회를_요청(Long source, Long target) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .queryParam("source", source)
+                .queryParam("target", target)
+                .when().get("/paths/cost")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 여러_경로_조회를_요청(List<PathRequest> pathRequests) {
+        return RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .body(pathRequests)
+                .when().post("/paths/batch")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 한_역에서_모든_역까지의_경로_조회를_요청(Long source, String type) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .queryParam("type", type)
+                .queryParam("predecessors", true)
+                .when().get("/paths/from/{source}", source)
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 정해진_시간_안에_도달할_수_있는_역_조회를_요청(Long source, int budget) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .queryParam("source", source)
+                .queryParam("type", "DURATION")
+                .queryParam("budget", budget)
+                .when().get("/paths/isochrone")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 모든_구간을_닫았을_때의_영향_분석을_요청(int limit) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .queryParam("type", "DISTANCE")
+                .queryParam("limit", limit)
+                .when().get("/paths/closure-impacts")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 두_역의_대안_경로_조회를_요청(Long source, Long target, int k) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .queryParam("source", source)
+                .queryParam("target", target)
+                .queryParam("type", "DISTANCE")
+                .queryParam("k", k)
+                .when().get("/paths/alternatives")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 두_역의_거리와_소요_시간_최적_경로_조회를_요청(Long source, Long target) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .queryParam("source", source)
+                .queryParam("target", target)
+                .when().get("/paths/pareto")
+                .then().log().all().extract();
+    }
+
     public static void 경로_응답됨(ExtractableResponse<Response> response, List<Long> expectedStationIds, int distance, int duration) {
         PathResponse pathResponse = response.as(PathResponse.class);
         assertThat(pathResponse.getDistance()).isEqualTo(distance);
@@ -54,4 +188,106 @@ public class PathSteps {
 
         assertThat(stationIds).containsExactlyElementsOf(expectedStationIds);
     }
+
+    public static void 환승_경로_응답됨(ExtractableResponse<Response> response, List<Long> expectedStationIds, int transferCount) {
+        TransferPathResponse transferPathResponse = response.as(TransferPathResponse.class);
+        List<Long> stationIds = transferPathResponse.getStations().stream()
+                .map(StationResponse::getId)
+                .collect(Collectors.toList());
+
+        assertThat(stationIds).containsExactlyElementsOf(expectedStationIds);
+        assertThat(transferPathResponse.getTransferCount()).isEqualTo(transferCount);
+    }
+
+    public static void 경로_없음_응답됨(ExtractableResponse<Response> response) {
+        PathErrorResponse errorResponse = response.as(PathErrorResponse.class);
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+        assertThat(errorResponse.getError()).isEqualTo(PathErrorResponse.PATH_NOT_FOUND);
+        assertThat(errorResponse.getMessage()).isEqualTo("출발역과 도착역이 연결되어 있지 않습니다.");
+    }
+
+    public static void 잘못된_경로_요청_응답됨(ExtractableResponse<Response> response, String message) {
+        PathErrorResponse errorResponse = response.as(PathErrorResponse.class);
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(errorResponse.getError()).isEqualTo(PathErrorResponse.INVALID_REQUEST);
+        assertThat(errorResponse.getMessage()).isEqualTo(message);
+    }
+
+    public static void 비용_응답됨(ExtractableResponse<Response> response, int distance, int duration) {
+        PathCostResponse pathCostResponse = response.as(PathCostResponse.class);
+        assertThat(pathCostResponse.getDistance()).isEqualTo(distance);
+        assertThat(pathCostResponse.getDuration()).isEqualTo(duration);
+    }
+
+    public static void 여러_경로_응답됨(ExtractableResponse<Response> response, List<List<Long>> expectedStationIds) {
+        List<BatchPathResponse> pathResponses = response.jsonPath().getList(".", BatchPathResponse.class);
+        List<List<Long>> stationIds = pathResponses.stream()
+                .map(it -> it.getPath() == null ? null : it.getPath().getStations().stream()
+                        .map(StationResponse::getId)
+                        .collect(Collectors.toList()))
+                .collect(Collectors.toList());
+
+        assertThat(stationIds).containsExactlyElementsOf(expectedStationIds);
+    }
+
+    public static void 경로별_오류_응답됨(ExtractableResponse<Response> response, List<String> expectedErrors) {
+        List<String> errors = response.jsonPath().getList(".", BatchPathResponse.class).stream()
+                .map(BatchPathResponse::getError)
+                .collect(Collectors.toList());
+
+        assertThat(errors).containsExactlyElementsOf(expectedErrors);
+    }
+
+    public static void 모든_역까지의_비용_응답됨(ExtractableResponse<Response> response, Long stationId, int cost, Long previousStationId) {
+        PathTreeResponse pathTreeResponse = response.as(PathTreeResponse.class);
+        StationCostResponse stationCost = pathTreeResponse.getStations().stream()
+                .filter(it -> it.getStation().getId().equals(stationId))
+                .findFirst()
+                .orElseThrow(RuntimeException::new);
+
+        assertThat(stationCost.getCost()).isEqualTo(cost);
+        assertThat(stationCost.getPreviousStationId()).isEqualTo(previousStationId);
+    }
+
+    public static void 도달할_수_있는_역_응답됨(ExtractableResponse<Response> response, List<Long> expectedStationIds) {
+        List<Long> stationIds = response.as(IsochroneResponse.class).getStations().stream()
+                .map(it -> it.getStation().getId())
+                .collect(Collectors.toList());
+
+        assertThat(stationIds).containsExactlyInAnyOrderElementsOf(expectedStationIds);
+    }
+
+    public static void 대안_경로_응답됨(ExtractableResponse<Response> response, List<List<Long>> expectedStationIds) {
+        List<List<Long>> stationIds = response.as(AlternativePathsResponse.class).getPaths().stream()
+                .map(it -> it.getStations().stream()
+                        .map(StationResponse::getId)
+                        .collect(Collectors.toList()))
+                .collect(Collectors.toList());
+
+        assertThat(stationIds).containsExactlyElementsOf(expectedStationIds);
+    }
+
+    public static void 최적_경로들_응답됨(ExtractableResponse<Response> response, List<List<Long>> expectedStationIds) {
+        List<List<Long>> stationIds = response.as(ParetoPathsResponse.class).getPaths().stream()
+                .map(it -> it.getStations().stream()
+                        .map(StationResponse::getId)
+                        .collect(Collectors.toList()))
+                .collect(Collectors.toList());
+
+        assertThat(stationIds).containsExactlyElementsOf(expectedStationIds);
+    }
+
+    public static void 구간을_닫았을_때의_영향_응답됨(ExtractableResponse<Response> response, List<List<Long>> expectedSectionStationIds,
+                                          List<Integer> expectedWorstDetourCosts) {
+        List<SectionClosureImpactResponse> impacts = response.jsonPath().getList(".", SectionClosureImpactResponse.class);
+        List<List<Long>> sectionStationIds = impacts.stream()
+                .map(it -> Arrays.asList(it.getUpStation().getId(), it.getDownStation().getId()))
+                .collect(Collectors.toList());
+        List<Integer> worstDetourCosts = impacts.stream()
+                .map(it -> it.getDetours().get(0).getDetourCost())
+                .collect(Collectors.toList());
+
+        assertThat(sectionStationIds).containsExactlyElementsOf(expectedSectionStationIds);
+        assertThat(worstDetourCosts).containsExactlyElementsOf(expectedWorstDetourCosts);
+    }
 }
@@ -0,0 +1,151 @@
+package nextstep.subway.path.application;
+
+import com.google.common.collect.Lists;
+import nextstep.subway.common.NetworkVersion;
+import nextstep.subway.line.application.LineService;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.line.domain.SectionDelta;
+import nextstep.subway.path.domain.PathEngine;
+import nextstep.subway.path.domain.PathEngineSettings;
+import nextstep.subway.path.domain.SubwayGraph;
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class GraphServiceTest {
+    private LineService lineService;
+    private NetworkVersion networkVersion;
+    private GraphService graphService;
+    private Line line;
+    private Station 강남역;
+    private Station 역삼역;
+
+    @BeforeEach
+    void setUp() {
+        강남역 = new Station("강남역");
+        역삼역 = new Station("역삼역");
+        line = new Line("2호선", "green");
+        line.addSection(강남역, 역삼역, 10, 10);
+
+        lineService = mock(LineService.class);
+        when(lineService.findLines()).thenReturn(Lists.newArrayList(line));
+        networkVersion = new NetworkVersion();
+        graphService = new GraphService(lineService, networkVersion, PathEngine.CSR, PathEngineSettings.DEFAULT_LANDMARK_COUNT,
+                PathEngineSettings.DEFAULT_TREE_CACHE_CAPACITY);
+    }
+
+    @DisplayName("노선 정보가 바뀌지 않으면 같은 그래프를 재사용한다.")
+    @Test
+    void findGraphWithSameVersion() {
+        // when
+        SubwayGraph first = graphService.findGraph(PathType.DISTANCE);
+        SubwayGraph second = graphService.findGraph(PathType.DISTANCE);
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(lineService, times(1)).findLines();
+    }
+
+    @DisplayName("경로 타입이 달라도 같은 버전이면 노선 정보를 한 번만 읽고 그래프 구조를 공유한다.")
+    @Test
+    void shareGraphBetweenPathTypes() {
+        // when
+        SubwayGraph distanceGraph = graphService.findGraph(PathType.DISTANCE);
+        SubwayGraph durationGraph = graphService.findGraph(PathType.DURATION);
+
+        // then
+        assertThat(durationGraph.getCsrGraph().getType()).isEqualTo(PathType.DURATION);
+        assertThat(durationGraph.getCsrGraph().getStation(0)).isSameAs(distanceGraph.getCsrGraph().getStation(0));
+        verify(lineService, times(1)).findLines();
+    }
+
+    @DisplayName("노선 정보가 바뀌면 그래프를 다시 만든다.")
+    @Test
+    void findGraphAfterVersionChanged() {
+        // given
+        SubwayGraph first = graphService.findGraph(PathType.DISTANCE);
+
+        // when
+        networkVersion.increase();
+        SubwayGraph second = graphService.findGraph(PathType.DISTANCE);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        verify(lineService, times(2)).findLines();
+    }
+
+    @DisplayName("구간 변경분이 함께 오면 노선 정보를 다시 읽지 않고 그래프에 반영한다.")
+    @Test
+    void applySectionDeltas() {
+        // given
+        Station 선릉역 = new Station("선릉역");
+        SubwayGraph first = graphService.findGraph(PathType.DISTANCE);
+
+        // when
+        networkVersion.increase(Lists.newArrayList(SectionDelta.added(new Section(1L, line, 역삼역, 선릉역, 10, 10))));
+        SubwayGraph second = graphService.findGraph(PathType.DISTANCE);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.findPath(강남역, 선릉역).getTotalDistance()).isEqualTo(20);
+        verify(lineService, times(1)).findLines();
+    }
+
+    @DisplayName("버전만 올린 변경이 사이에 있으면 변경분을 이어서 반영하지 않고 그래프를 다시 만든다.")
+    @Test
+    void rebuildAfterVersionOnlyChange() {
+        // given
+        Station 선릉역 = new Station("선릉역");
+        graphService.findGraph(PathType.DISTANCE);
+        line.addSection(역삼역, 선릉역, 10, 10);
+
+        // when
+        networkVersion.increase();
+        networkVersion.increase(Lists.newArrayList(SectionDelta.added(new Section(1L, line, 역삼역, 선릉역, 10, 10))));
+        SubwayGraph graph = graphService.findGraph(PathType.DISTANCE);
+
+        // then
+        assertThat(graph.findPath(강남역, 선릉역).getTotalDistance()).isEqualTo(20);
+        verify(lineService, times(2)).findLines();
+    }
+
+    @DisplayName("앞선 리스너가 실패해도 버전은 올라가고 나머지 리스너는 변경분을 반영한다.")
+    @Test
+    void applySectionDeltasAfterListenerFailed() {
+        // given
+        Station 선릉역 = new Station("선릉역");
+        NetworkVersion failingVersion = new NetworkVersion();
+        failingVersion.addListener((version, deltas) -> {
+            throw new RuntimeException("리스너 실패");
+        });
+        GraphService failingGraphService = new GraphService(lineService, failingVersion, PathEngine.CSR,
+                PathEngineSettings.DEFAULT_LANDMARK_COUNT, PathEngineSettings.DEFAULT_TREE_CACHE_CAPACITY);
+        failingGraphService.findGraph(PathType.DISTANCE);
+
+        // when
+        failingVersion.increase(Lists.newArrayList(SectionDelta.added(new Section(1L, line, 역삼역, 선릉역, 10, 10))));
+
+        // then
+        assertThat(failingVersion.current()).isEqualTo(1);
+        assertThat(failingGraphService.findGraph(PathType.DISTANCE).findPath(강남역, 선릉역).getTotalDistance()).isEqualTo(20);
+        verify(lineService, times(1)).findLines();
+    }
+
+    @DisplayName("경로 타입별로 그래프를 따로 보관한다.")
+    @Test
+    void findGraphByType() {
+        // when
+        SubwayGraph distanceGraph = graphService.findGraph(PathType.DISTANCE);
+        SubwayGraph durationGraph = graphService.findGraph(PathType.DURATION);
+
+        // then
+        assertThat(durationGraph).isNotSameAs(distanceGraph);
+        assertThat(graphService.findGraph(PathType.DURATION)).isSameAs(durationGraph);
+    }
+}
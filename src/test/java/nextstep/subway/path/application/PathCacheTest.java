@@ -0,0 +1,149 @@
+package nextstep.subway.path.application;
+
+import nextstep.subway.common.NetworkVersion;
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.path.dto.PathResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PathCacheTest {
+    private NetworkVersion networkVersion;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        networkVersion = new NetworkVersion();
+        loadCount = new AtomicInteger();
+    }
+
+    @DisplayName("같은 경로를 다시 조회하면 저장된 경로를 돌려준다.")
+    @Test
+    void findCachedPath() {
+        // given
+        PathCache pathCache = new PathCache(networkVersion, true, 10);
+        PathResponse first = pathCache.find(1L, 2L, PathType.DISTANCE, this::load);
+
+        // when
+        PathResponse second = pathCache.find(1L, 2L, PathType.DISTANCE, this::load);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(pathCache.getHitCount()).isEqualTo(1);
+        assertThat(pathCache.getMissCount()).isEqualTo(1);
+    }
+
+    @DisplayName("경로 타입이 다르면 따로 저장한다.")
+    @Test
+    void findPathOfOtherType() {
+        // given
+        PathCache pathCache = new PathCache(networkVersion, true, 10);
+        pathCache.find(1L, 2L, PathType.DISTANCE, this::load);
+
+        // when
+        pathCache.find(1L, 2L, PathType.DURATION, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(pathCache.getHitCount()).isZero();
+    }
+
+    @DisplayName("노선 정보 버전이 바뀌면 이전에 저장한 경로를 돌려주지 않는다.")
+    @Test
+    void findPathAfterNetworkChanged() {
+        // given
+        PathCache pathCache = new PathCache(networkVersion, true, 10);
+        PathResponse first = pathCache.find(1L, 2L, PathType.DISTANCE, this::load);
+
+        // when
+        networkVersion.increase();
+        PathResponse second = pathCache.find(1L, 2L, PathType.DISTANCE, this::load);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(pathCache.getMissCount()).isEqualTo(2);
+    }
+
+    @DisplayName("용량을 넘으면 가장 오래 사용하지 않은 경로를 지운다.")
+    @Test
+    void evictLeastRecentlyUsed() {
+        // given
+        PathCache pathCache = new PathCache(networkVersion, true, 2);
+        pathCache.find(1L, 2L, PathType.DISTANCE, this::load);
+        pathCache.find(1L, 3L, PathType.DISTANCE, this::load);
+        pathCache.find(1L, 2L, PathType.DISTANCE, this::load);
+
+        // when
+        pathCache.find(1L, 4L, PathType.DISTANCE, this::load);
+        pathCache.find(1L, 2L, PathType.DISTANCE, this::load);
+
+        // then
+        assertThat(pathCache.size()).isEqualTo(2);
+        assertThat(pathCache.getEvictionCount()).isEqualTo(1);
+        assertThat(pathCache.getHitCount()).isEqualTo(2);
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @DisplayName("용량이 크면 구간을 나눠 보관하고, 구간마다 지워도 전체 용량을 넘지 않는다.")
+    @Test
+    void evictBySegment() {
+        // given
+        PathCache pathCache = new PathCache(networkVersion, true, 1000);
+
+        // when
+        for (long target = 0; target < 3000; target++) {
+            pathCache.find(1L, target, PathType.DISTANCE, this::load);
+            pathCache.find(1L, 0L, PathType.DISTANCE, this::load);
+        }
+
+        // then
+        assertThat(pathCache.size()).isLessThanOrEqualTo(1000);
+        assertThat(pathCache.size() + pathCache.getEvictionCount()).isEqualTo(3000);
+        assertThat(loadCount.get()).isEqualTo(3000);
+    }
+
+    @DisplayName("저장된 경로가 없어 찾아 본 뒤 계산한 요청은 한 번만 세고, 그다음 조회는 저장된 경로를 돌려준다.")
+    @Test
+    void loadAfterFindCached() {
+        // given
+        PathCache pathCache = new PathCache(networkVersion, true, 10);
+
+        // when
+        PathResponse missed = pathCache.findCached(1L, 2L, PathType.DISTANCE);
+        PathResponse loaded = pathCache.load(1L, 2L, PathType.DISTANCE, networkVersion.current(), this::load);
+        PathResponse cached = pathCache.findCached(1L, 2L, PathType.DISTANCE);
+
+        // then
+        assertThat(missed).isNull();
+        assertThat(cached).isSameAs(loaded);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(pathCache.getMissCount()).isEqualTo(1);
+        assertThat(pathCache.getHitCount()).isEqualTo(1);
+    }
+
+    @DisplayName("캐시를 끄면 매번 경로를 계산한다.")
+    @Test
+    void disabled() {
+        // given
+        PathCache pathCache = new PathCache(networkVersion, false, 10);
+
+        // when
+        pathCache.find(1L, 2L, PathType.DISTANCE, this::load);
+        pathCache.find(1L, 2L, PathType.DISTANCE, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(pathCache.size()).isZero();
+    }
+
+    private PathResponse load() {
+        loadCount.incrementAndGet();
+        return new PathResponse(new ArrayList<>(), 10, 10);
+    }
+}
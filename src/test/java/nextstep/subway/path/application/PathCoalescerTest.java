@@ -0,0 +1,153 @@
+package nextstep.subway.path.application;
+
+import nextstep.subway.common.NetworkVersion;
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.path.dto.PathResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PathCoalescerTest {
+    private static final int REQUEST_COUNT = 8;
+
+    private NetworkVersion networkVersion;
+    private AtomicInteger loadCount;
+    private CountDownLatch release;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        networkVersion = new NetworkVersion();
+        loadCount = new AtomicInteger();
+        release = new CountDownLatch(1);
+        executor = Executors.newFixedThreadPool(REQUEST_COUNT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("같은 경로를 동시에 요청하면 한 번만 계산하고 결과를 함께 받는다.")
+    @Test
+    void coalesce() throws Exception {
+        // given
+        PathCoalescer pathCoalescer = new PathCoalescer(networkVersion, true);
+
+        // when
+        List<Future<PathResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            responses.add(executor.submit(() -> pathCoalescer.find(1L, 2L, PathType.DISTANCE, this::load)));
+        }
+        awaitCoalesced(pathCoalescer, REQUEST_COUNT - 1);
+        release.countDown();
+
+        // then
+        for (Future<PathResponse> response : responses) {
+            assertThat(response.get(5, TimeUnit.SECONDS)).isSameAs(responses.get(0).get());
+        }
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(pathCoalescer.getExecutionCount()).isEqualTo(1);
+        assertThat(pathCoalescer.getCoalescedCount()).isEqualTo(REQUEST_COUNT - 1);
+        assertThat(pathCoalescer.inFlightCount()).isZero();
+    }
+
+    @DisplayName("계산이 실패하면 함께 기다리던 요청도 같은 예외를 받는다.")
+    @Test
+    void coalesceFailure() throws Exception {
+        // given
+        PathCoalescer pathCoalescer = new PathCoalescer(networkVersion, true);
+        Future<PathResponse> first = executor.submit(() -> pathCoalescer.find(1L, 2L, PathType.DISTANCE, this::fail));
+        awaitLoading();
+
+        // when
+        Future<PathResponse> second = executor.submit(() -> pathCoalescer.find(1L, 2L, PathType.DISTANCE, this::load));
+        awaitCoalesced(pathCoalescer, 1);
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("경로를 찾을 수 없습니다.");
+        assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("경로를 찾을 수 없습니다.");
+        assertThat(pathCoalescer.inFlightCount()).isZero();
+    }
+
+    @DisplayName("노선 정보 버전이 바뀐 뒤의 요청은 진행 중인 계산을 기다리지 않는다.")
+    @Test
+    void notCoalesceAfterNetworkChanged() throws Exception {
+        // given
+        PathCoalescer pathCoalescer = new PathCoalescer(networkVersion, true);
+        Future<PathResponse> first = executor.submit(() -> pathCoalescer.find(1L, 2L, PathType.DISTANCE, this::load));
+        awaitLoading();
+
+        // when
+        networkVersion.increase();
+        PathResponse second = pathCoalescer.find(1L, 2L, PathType.DISTANCE, () -> new PathResponse(new ArrayList<>(), 5, 5));
+        release.countDown();
+
+        // then
+        assertThat(second.getDistance()).isEqualTo(5);
+        assertThat(first.get(5, TimeUnit.SECONDS).getDistance()).isEqualTo(10);
+        assertThat(pathCoalescer.getCoalescedCount()).isZero();
+    }
+
+    @DisplayName("끝난 계산의 결과는 다시 돌려주지 않는다.")
+    @Test
+    void notReuseCompleted() {
+        // given
+        PathCoalescer pathCoalescer = new PathCoalescer(networkVersion, true);
+        release.countDown();
+        pathCoalescer.find(1L, 2L, PathType.DISTANCE, this::load);
+
+        // when
+        pathCoalescer.find(1L, 2L, PathType.DISTANCE, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(pathCoalescer.getCoalescedCount()).isZero();
+    }
+
+    private void awaitCoalesced(PathCoalescer pathCoalescer, int count) throws InterruptedException {
+        while (pathCoalescer.getCoalescedCount() < count) {
+            Thread.sleep(1);
+        }
+    }
+
+    private void awaitLoading() throws InterruptedException {
+        while (loadCount.get() == 0) {
+            Thread.sleep(1);
+        }
+    }
+
+    private PathResponse load() {
+        loadCount.incrementAndGet();
+        awaitRelease();
+        return new PathResponse(new ArrayList<>(), 10, 10);
+    }
+
+    private PathResponse fail() {
+        loadCount.incrementAndGet();
+        awaitRelease();
+        throw new RuntimeException("경로를 찾을 수 없습니다.");
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
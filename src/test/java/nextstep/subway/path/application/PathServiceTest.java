@@ -0,0 +1,78 @@
+package nextstep.subway.path.application;
+
+import com.google.common.collect.Lists;
+import nextstep.subway.common.NetworkVersion;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.path.domain.AllPairsTable;
+import nextstep.subway.path.domain.CsrGraph;
+import nextstep.subway.path.domain.SubwayGraph;
+import nextstep.subway.path.dto.PathResponse;
+import nextstep.subway.station.application.StationService;
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PathServiceTest {
+    private Station 강남역;
+    private Station 역삼역;
+    private AllPairsOracle allPairsOracle;
+    private PathCache pathCache;
+    private RoutingExecutor routingExecutor;
+    private PathService pathService;
+
+    @BeforeEach
+    void setUp() {
+        강남역 = new Station("강남역");
+        역삼역 = new Station("역삼역");
+        Line line = new Line("2호선", "green");
+        line.addSection(강남역, 역삼역, 10, 10);
+
+        GraphService graphService = mock(GraphService.class);
+        when(graphService.findGraph(PathType.DISTANCE)).thenReturn(new SubwayGraph(Lists.newArrayList(line), PathType.DISTANCE));
+        StationService stationService = mock(StationService.class);
+        when(stationService.findStationById(1L)).thenReturn(강남역);
+        when(stationService.findStationById(2L)).thenReturn(역삼역);
+        NetworkVersion networkVersion = new NetworkVersion();
+        allPairsOracle = mock(AllPairsOracle.class);
+        pathCache = new PathCache(networkVersion, true, 10);
+        routingExecutor = new RoutingExecutor(false, 1, 1, 1000);
+        pathService = new PathService(graphService, stationService, networkVersion, allPairsOracle, mock(HubLabelOracle.class),
+                pathCache, new PathCoalescer(networkVersion, true), routingExecutor, 100000, 2000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        routingExecutor.shutdown();
+    }
+
+    @DisplayName("경로 표를 다시 만드는 동안 이전 표로 계산한 경로는 저장하지 않는다.")
+    @Test
+    void notCachePathFromStaleTable() {
+        // given
+        Line 이전_노선 = new Line("2호선", "green");
+        이전_노선.addSection(강남역, 역삼역, 5, 5);
+        AllPairsTable staleTable = new AllPairsTable(new CsrGraph(Lists.newArrayList(이전_노선), PathType.DISTANCE));
+        when(allPairsOracle.findTable(PathType.DISTANCE)).thenReturn(Optional.of(staleTable));
+        when(allPairsOracle.isRebuilding(anyLong())).thenReturn(true);
+
+        // when
+        PathResponse stale = pathService.findPath(1L, 2L, PathType.DISTANCE);
+        when(allPairsOracle.isRebuilding(anyLong())).thenReturn(false);
+        PathResponse current = pathService.findPath(1L, 2L, PathType.DISTANCE);
+
+        // then
+        assertThat(stale.getDistance()).isEqualTo(5);
+        assertThat(current.getDistance()).isEqualTo(10);
+        assertThat(pathCache.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,107 @@
+package nextstep.subway.path.application;
+
+import nextstep.subway.path.domain.SearchCancellation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RoutingExecutorTest {
+    private CountDownLatch release;
+    private RoutingExecutor routingExecutor;
+
+    @BeforeEach
+    void setUp() {
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (routingExecutor != null) {
+            routingExecutor.shutdown();
+        }
+    }
+
+    @DisplayName("탐색을 전용 스레드에서 실행하고 결과를 돌려준다.")
+    @Test
+    void submit() throws Exception {
+        // given
+        routingExecutor = new RoutingExecutor(true, 1, 1, 1000);
+
+        // when
+        CompletableFuture<String> result = routingExecutor.submit(() -> Thread.currentThread().getName());
+
+        // then
+        assertThat(result.get(5, TimeUnit.SECONDS)).startsWith("routing-");
+    }
+
+    @DisplayName("실행 중인 탐색과 대기열이 가득 차면 새 탐색을 거절한다.")
+    @Test
+    void rejectWhenQueueIsFull() {
+        // given
+        routingExecutor = new RoutingExecutor(true, 1, 1, 10000);
+        routingExecutor.submit(this::awaitRelease);
+        routingExecutor.submit(this::awaitRelease);
+
+        // when, then
+        assertThatThrownBy(() -> routingExecutor.submit(this::awaitRelease))
+                .isInstanceOf(RoutingUnavailableException.class);
+        assertThat(routingExecutor.getRejectedCount()).isEqualTo(1);
+    }
+
+    @DisplayName("기한을 넘긴 탐색은 실패로 응답하고, 탐색 루프는 다음 확인 지점에서 멈춘다.")
+    @Test
+    void cancelAfterDeadline() throws Exception {
+        // given
+        routingExecutor = new RoutingExecutor(true, 1, 1, 50);
+        CountDownLatch cancelled = new CountDownLatch(1);
+
+        // when
+        CompletableFuture<Integer> result = routingExecutor.submit(() -> {
+            try {
+                for (int settledCount = 1; ; settledCount++) {
+                    SearchCancellation.checkpoint(settledCount);
+                }
+            } catch (RuntimeException e) {
+                cancelled.countDown();
+                throw e;
+            }
+        });
+
+        // then
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(RoutingUnavailableException.class);
+        assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(routingExecutor.getTimedOutCount()).isEqualTo(1);
+    }
+
+    @DisplayName("비동기 실행을 끄면 요청 스레드에서 바로 탐색한다.")
+    @Test
+    void disabled() throws Exception {
+        // given
+        routingExecutor = new RoutingExecutor(false, 1, 1, 1000);
+
+        // when
+        CompletableFuture<String> result = routingExecutor.submit(() -> Thread.currentThread().getName());
+
+        // then
+        assertThat(result.isDone()).isTrue();
+        assertThat(result.get()).isEqualTo(Thread.currentThread().getName());
+    }
+
+    private Integer awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,61 @@
+package nextstep.subway.path.domain;
+
+import com.google.common.collect.Lists;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AllPairsTableTest {
+    private Station 교대역;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 남부터미널역;
+    private List<Line> lines;
+
+    @BeforeEach
+    void setUp() {
+        교대역 = new Station("교대역");
+        강남역 = new Station("강남역");
+        양재역 = new Station("양재역");
+        남부터미널역 = new Station("남부터미널역");
+        Line 이호선 = new Line("2호선", "green");
+        이호선.addSection(교대역, 강남역, 10, 10);
+        Line 신분당선 = new Line("신분당선", "red");
+        신분당선.addSection(강남역, 양재역, 10, 10);
+        Line 삼호선 = new Line("3호선", "orange");
+        삼호선.addSection(교대역, 남부터미널역, 2, 10);
+        삼호선.addSection(남부터미널역, 양재역, 3, 10);
+        lines = Lists.newArrayList(이호선, 신분당선, 삼호선);
+    }
+
+    @Test
+    void findPath() {
+        // given
+        AllPairsTable table = new AllPairsTable(new CsrGraph(lines, PathType.DISTANCE));
+
+        // when
+        PathResult pathResult = table.findPath(양재역, 교대역);
+
+        // then
+        assertThat(pathResult.getStations()).containsExactly(양재역, 남부터미널역, 교대역);
+        assertThat(pathResult.getTotalDistance()).isEqualTo(5);
+    }
+
+    @Test
+    void findCost() {
+        // given
+        AllPairsTable table = new AllPairsTable(new CsrGraph(lines, PathType.DURATION));
+
+        // when
+        int cost = table.findCost(강남역, 남부터미널역);
+
+        // then
+        assertThat(cost).isEqualTo(20);
+    }
+}
@@ -0,0 +1,48 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AltPathFinderTest {
+    private static final int SIZE = 9;
+
+    private Station[][] stations;
+    private CsrGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        GridNetworkFixture grid = GridNetworkFixture.create(SIZE);
+        stations = grid.getStations();
+        graph = grid.graph(PathType.DISTANCE);
+    }
+
+    @DisplayName("랜드마크 하한으로 다익스트라보다 적은 역을 확정한다.")
+    @Test
+    void settleFewerStations() {
+        // given
+        Station source = stations[4][0];
+        Station target = stations[4][8];
+
+        // when
+        PathResult dijkstraResult = new DijkstraPathFinder(graph).findPath(source, target);
+        PathResult altResult = new AltPathFinder(graph, 4).findPath(source, target);
+
+        // then
+        assertThat(altResult.getSettledCount()).isLessThan(dijkstraResult.getSettledCount() / 2);
+    }
+
+    @DisplayName("랜드마크 수는 역 수를 넘지 않는다.")
+    @Test
+    void limitLandmarkCount() {
+        // when
+        AltPathFinder altPathFinder = new AltPathFinder(graph, SIZE * SIZE + 10);
+
+        // then
+        assertThat(altPathFinder.getLandmarks()).hasSize(SIZE * SIZE);
+    }
+}
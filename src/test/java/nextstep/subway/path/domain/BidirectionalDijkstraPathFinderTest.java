@@ -0,0 +1,48 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BidirectionalDijkstraPathFinderTest {
+    private static final int SIZE = 9;
+
+    private Station[][] stations;
+    private CsrGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        GridNetworkFixture grid = GridNetworkFixture.create(SIZE);
+        stations = grid.getStations();
+        graph = grid.graph(PathType.DISTANCE);
+    }
+
+    @DisplayName("멀리 떨어진 두 역은 단방향 다익스트라보다 적은 역을 확정한다.")
+    @Test
+    void settleFewerStations() {
+        // given
+        Station source = stations[4][0];
+        Station target = stations[4][8];
+
+        // when
+        PathResult dijkstraResult = new DijkstraPathFinder(graph).findPath(source, target);
+        PathResult bidirectionalResult = new BidirectionalDijkstraPathFinder(graph).findPath(source, target);
+
+        // then
+        assertThat(bidirectionalResult.getSettledCount()).isLessThan(dijkstraResult.getSettledCount() * 2 / 3);
+    }
+
+    @Test
+    void findPathToSameStation() {
+        // when
+        PathResult pathResult = new BidirectionalDijkstraPathFinder(graph).findPath(stations[3][3], stations[3][3]);
+
+        // then
+        assertThat(pathResult.getStations()).containsExactly(stations[3][3]);
+        assertThat(pathResult.getTotalDistance()).isZero();
+    }
+}
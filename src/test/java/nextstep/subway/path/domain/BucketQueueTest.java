@@ -0,0 +1,63 @@
+package nextstep.subway.path.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BucketQueueTest {
+    @DisplayName("키가 작은 순서대로 꺼낸다.")
+    @Test
+    void poll() {
+        // given
+        BucketQueue queue = new BucketQueue(4, 10);
+        queue.insertOrDecrease(0, 7);
+        queue.insertOrDecrease(1, 3);
+        queue.insertOrDecrease(2, 10);
+
+        // when
+        int first = queue.poll();
+        queue.insertOrDecrease(3, 12);
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(0);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.peekKey()).isEqualTo(12);
+        assertThat(queue.poll()).isEqualTo(3);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @DisplayName("키를 줄이면 새 키의 순서로 꺼낸다.")
+    @Test
+    void decreaseKey() {
+        // given
+        BucketQueue queue = new BucketQueue(3, 10);
+        queue.insertOrDecrease(0, 5);
+        queue.insertOrDecrease(1, 8);
+
+        // when
+        queue.insertOrDecrease(1, 2);
+        queue.insertOrDecrease(0, 9);
+
+        // then
+        assertThat(queue.peekKey()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(0);
+    }
+
+    @DisplayName("키가 같으면 먼저 넣은 역을 먼저 꺼낸다.")
+    @Test
+    void pollInInsertionOrder() {
+        // given
+        BucketQueue queue = new BucketQueue(3, 10);
+        queue.insertOrDecrease(2, 4);
+        queue.insertOrDecrease(0, 4);
+        queue.insertOrDecrease(1, 4);
+
+        // then
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(0);
+        assertThat(queue.poll()).isEqualTo(1);
+    }
+}
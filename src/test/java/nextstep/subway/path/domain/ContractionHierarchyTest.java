@@ -0,0 +1,40 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ContractionHierarchyTest {
+    private static final int SIZE = 12;
+
+    private Station[][] stations;
+    private CsrGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        GridNetworkFixture grid = GridNetworkFixture.createWithVariedDistances(SIZE);
+        stations = grid.getStations();
+        graph = grid.graph(PathType.DISTANCE);
+    }
+
+    @DisplayName("지름길을 추가하고 다익스트라보다 적은 역을 확정한다.")
+    @Test
+    void settleFewerStations() {
+        // given
+        ContractionHierarchy hierarchy = new ContractionHierarchyBuilder(graph).build();
+        Station source = stations[0][0];
+        Station target = stations[SIZE - 1][SIZE - 1];
+
+        // when
+        PathResult dijkstraResult = new DijkstraPathFinder(graph).findPath(source, target);
+        PathResult hierarchyResult = hierarchy.findPath(source, target);
+
+        // then
+        assertThat(hierarchy.getShortcutCount()).isPositive();
+        assertThat(hierarchyResult.getSettledCount()).isLessThan(dijkstraResult.getSettledCount());
+    }
+}
@@ -0,0 +1,173 @@
+package nextstep.subway.path.domain;
+
+import com.google.common.collect.Lists;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.line.domain.SectionDelta;
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CsrGraphTest {
+    private Station 교대역;
+    private Station 강남역;
+    private Station 양재역;
+    private Line 신분당선;
+    private CsrGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        교대역 = new Station("교대역");
+        강남역 = new Station("강남역");
+        양재역 = new Station("양재역");
+        Line 이호선 = new Line("2호선", "green");
+        이호선.addSection(교대역, 강남역, 10, 10);
+        신분당선 = new Line("신분당선", "red");
+        graph = new CsrGraph(Lists.newArrayList(이호선), PathType.DISTANCE);
+    }
+
+    @DisplayName("구간 추가를 반영한 새 그래프를 만들고, 기존 그래프는 그대로 둔다.")
+    @Test
+    void applyAddedSection() {
+        // when
+        CsrGraph applied = graph.apply(Lists.newArrayList(SectionDelta.added(new Section(1L, 신분당선, 강남역, 양재역, 10, 10))));
+
+        // then
+        assertThat(new DijkstraPathFinder(applied).findPath(교대역, 양재역).getTotalDistance()).isEqualTo(20);
+        assertThat(graph.indexOf(양재역)).isEqualTo(CsrGraph.NO_STATION);
+        assertThat(graph.edgeCount()).isEqualTo(2);
+    }
+
+    @DisplayName("구간 id 기준으로 비용 변경과 구간 제거를 반영한다.")
+    @Test
+    void applyWeightChangedAndRemovedSection() {
+        // given
+        Section 강남_양재 = new Section(1L, 신분당선, 강남역, 양재역, 10, 10);
+        Section 교대_양재 = new Section(2L, 신분당선, 교대역, 양재역, 30, 30);
+        CsrGraph added = graph.apply(Lists.newArrayList(SectionDelta.added(강남_양재), SectionDelta.added(교대_양재)));
+
+        // when
+        CsrGraph changed = added.apply(Lists.newArrayList(SectionDelta.weightChanged(new Section(2L, 신분당선, 교대역, 양재역, 5, 5))));
+        CsrGraph removed = changed.apply(Lists.newArrayList(SectionDelta.removed(교대_양재)));
+
+        // then
+        assertThat(new DijkstraPathFinder(changed).findPath(교대역, 양재역).getStations()).containsExactly(교대역, 양재역);
+        assertThat(new DijkstraPathFinder(removed).findPath(교대역, 양재역).getStations()).containsExactly(교대역, 강남역, 양재역);
+        assertThat(removed.edgeCount()).isEqualTo(4);
+    }
+
+    @DisplayName("이미 반영된 변경분을 다시 적용해도 결과가 같다.")
+    @Test
+    void applyTwice() {
+        // given
+        List<SectionDelta> deltas = Lists.newArrayList(SectionDelta.added(new Section(1L, 신분당선, 강남역, 양재역, 10, 10)));
+        CsrGraph applied = graph.apply(deltas);
+
+        // when
+        CsrGraph appliedTwice = applied.apply(deltas);
+
+        // then
+        assertThat(appliedTwice.edgeCount()).isEqualTo(applied.edgeCount());
+        assertThat(appliedTwice.size()).isEqualTo(applied.size());
+    }
+
+    @DisplayName("구간 변경분을 반영하면 연결 요소도 함께 바뀐다.")
+    @Test
+    void connectedComponents() {
+        // given
+        Station 판교역 = new Station("판교역");
+        Station 정자역 = new Station("정자역");
+        Section 양재_판교 = new Section(2L, 신분당선, 양재역, 판교역, 10, 10);
+        CsrGraph separated = graph.apply(Lists.newArrayList(SectionDelta.added(new Section(1L, 신분당선, 판교역, 정자역, 10, 10))));
+
+        // when
+        CsrGraph connected = separated.apply(Lists.newArrayList(SectionDelta.added(new Section(3L, 신분당선, 강남역, 양재역, 10, 10)),
+                SectionDelta.added(양재_판교)));
+        CsrGraph disconnected = connected.apply(Lists.newArrayList(SectionDelta.removed(양재_판교)));
+
+        // then
+        assertThat(separated.isConnected(교대역, 정자역)).isFalse();
+        assertThat(connected.isConnected(교대역, 정자역)).isTrue();
+        assertThat(disconnected.isConnected(교대역, 양재역)).isTrue();
+        assertThat(disconnected.isConnected(교대역, 정자역)).isFalse();
+        assertThat(disconnected.isConnected(교대역, new Station("사당역"))).isFalse();
+    }
+
+    @DisplayName("구간이 모두 빠진 역은 전체를 다시 만든 그래프처럼 노선에 없는 역으로 본다.")
+    @Test
+    void applyRemovedLastSectionOfStation() {
+        // given
+        Section 강남_양재 = new Section(1L, 신분당선, 강남역, 양재역, 10, 10);
+        CsrGraph added = graph.apply(Lists.newArrayList(SectionDelta.added(강남_양재)));
+
+        // when
+        CsrGraph removed = added.apply(Lists.newArrayList(SectionDelta.removed(강남_양재)));
+
+        // then
+        assertThat(removed.indexOf(양재역)).isEqualTo(CsrGraph.NO_STATION);
+        assertThat(removed.isConnected(강남역, 양재역)).isFalse();
+        assertThatThrownBy(() -> new DijkstraPathFinder(removed).findIsochrone(양재역, 100))
+                .hasMessage("노선에 등록되지 않은 역입니다.");
+        assertThat(new DijkstraPathFinder(removed).findPath(교대역, 강남역).getTotalDistance()).isEqualTo(10);
+    }
+
+    @DisplayName("구간이 모두 빠졌던 역에 구간을 다시 더하면 다시 찾을 수 있다.")
+    @Test
+    void applyAddedSectionToRemovedStation() {
+        // given
+        Section 강남_양재 = new Section(1L, 신분당선, 강남역, 양재역, 10, 10);
+        CsrGraph removed = graph.apply(Lists.newArrayList(SectionDelta.added(강남_양재)))
+                .apply(Lists.newArrayList(SectionDelta.removed(강남_양재)));
+
+        // when
+        CsrGraph readded = removed.apply(Lists.newArrayList(SectionDelta.added(new Section(2L, 신분당선, 교대역, 양재역, 5, 5))));
+
+        // then
+        assertThat(readded.isConnected(강남역, 양재역)).isTrue();
+        assertThat(new DijkstraPathFinder(readded).findPath(강남역, 양재역).getTotalDistance()).isEqualTo(15);
+        assertThat(readded.edgeCount()).isEqualTo(4);
+    }
+
+    @DisplayName("구간 id 로 제외한 구간은 지나지 않는다.")
+    @Test
+    void findPathAvoidingSection() {
+        // given
+        CsrGraph applied = graph.apply(Lists.newArrayList(SectionDelta.added(new Section(1L, 신분당선, 강남역, 양재역, 10, 10)),
+                SectionDelta.added(new Section(2L, 신분당선, 교대역, 양재역, 30, 30))));
+        PathMask mask = PathMask.of(applied, Lists.newArrayList(), Lists.newArrayList(1L, 99L));
+
+        // when
+        PathResult pathResult = new DijkstraPathFinder(applied).findPath(교대역, 양재역, mask);
+
+        // then
+        assertThat(pathResult.getStations()).containsExactly(교대역, 양재역);
+        assertThat(pathResult.getTotalDistance()).isEqualTo(30);
+    }
+
+    @DisplayName("경로 타입만 바꾼 그래프는 같은 구조에서 해당 타입의 비용으로 탐색한다.")
+    @Test
+    void withType() {
+        // given
+        Line 삼호선 = new Line("3호선", "orange");
+        삼호선.addSection(교대역, 양재역, 5, 30);
+        신분당선.addSection(강남역, 양재역, 10, 10);
+        CsrGraph distanceGraph = new CsrGraph(Lists.newArrayList(삼호선, 신분당선), PathType.DISTANCE);
+
+        // when
+        CsrGraph durationGraph = distanceGraph.withType(PathType.DURATION);
+
+        // then
+        assertThat(distanceGraph.withType(PathType.DISTANCE)).isSameAs(distanceGraph);
+        assertThat(durationGraph.getType()).isEqualTo(PathType.DURATION);
+        assertThat(durationGraph.maxWeight()).isEqualTo(30);
+        assertThat(new DijkstraPathFinder(distanceGraph).findPath(교대역, 강남역).getStations()).containsExactly(교대역, 양재역, 강남역);
+        assertThat(new DijkstraPathFinder(durationGraph).findPath(양재역, 교대역).getTotalDuration()).isEqualTo(30);
+    }
+}
@@ -0,0 +1,118 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class DijkstraPathFinderTest {
+    private static final int SIZE = 20;
+    private static final int WARM_UP_QUERIES = 20_000;
+    private static final int MEASURED_QUERIES = 1_000;
+
+    private Station[][] stations;
+    private CsrGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        GridNetworkFixture grid = GridNetworkFixture.create(SIZE);
+        stations = grid.getStations();
+        graph = grid.graph(PathType.DISTANCE);
+    }
+
+    @DisplayName("제외한 역은 지나지 않고, 그래프는 다른 탐색과 함께 쓴다.")
+    @Test
+    void findPathAvoidingStations() {
+        // given
+        DijkstraPathFinder pathFinder = new DijkstraPathFinder(graph);
+        PathMask mask = PathMask.of(graph, Arrays.asList(stations[0][1], stations[1][1]), new ArrayList<>());
+
+        // when
+        PathResult avoided = pathFinder.findPath(stations[0][0], stations[0][2], mask);
+        PathResult shortest = pathFinder.findPath(stations[0][0], stations[0][2]);
+
+        // then
+        assertThat(avoided.getStations()).doesNotContain(stations[0][1], stations[1][1]);
+        assertThat(avoided.getTotalDistance()).isEqualTo(60);
+        assertThat(shortest.getTotalDistance()).isEqualTo(20);
+    }
+
+    @DisplayName("작업 공간을 재사용해도 매번 같은 경로를 찾는다.")
+    @Test
+    void findPathRepeatedly() {
+        DijkstraPathFinder pathFinder = new DijkstraPathFinder(graph);
+
+        for (int i = 0; i < 3; i++) {
+            PathResult pathResult = pathFinder.findPath(stations[0][0], stations[SIZE - 1][SIZE - 1]);
+            assertThat(pathResult.getTotalDistance()).isEqualTo(10 * 2 * (SIZE - 1));
+            assertThat(pathResult.getStations()).hasSize(2 * SIZE - 1);
+        }
+        assertThat(pathFinder.findPath(stations[3][4], stations[3][6]).getTotalDistance()).isEqualTo(20);
+    }
+
+    @DisplayName("출발역이 같은 여러 경로를 도착역 순서대로 찾는다.")
+    @Test
+    void findPaths() {
+        // given
+        DijkstraPathFinder pathFinder = new DijkstraPathFinder(graph);
+        List<Station> targets = Arrays.asList(stations[19][19], stations[0][3], stations[0][0], stations[0][3]);
+
+        // when
+        List<PathResult> pathResults = pathFinder.findPaths(stations[0][0], targets);
+
+        // then
+        assertThat(pathResults).extracting(PathResult::getTotalDistance).containsExactly(380, 30, 0, 30);
+        for (int i = 0; i < targets.size(); i++) {
+            assertThat(pathResults.get(i).getStations()).startsWith(stations[0][0]).endsWith(targets.get(i));
+        }
+    }
+
+    @DisplayName("정해진 비용 안에 도달할 수 있는 역만 가까운 순서로 찾는다.")
+    @Test
+    void findIsochrone() {
+        // when
+        Isochrone isochrone = new DijkstraPathFinder(graph).findIsochrone(stations[0][0], 30);
+
+        // then
+        assertThat(isochrone.getStations()).hasSize(10)
+                .startsWith(stations[0][0])
+                .contains(stations[0][3], stations[1][2], stations[3][0])
+                .doesNotContain(stations[0][4], stations[2][2]);
+        for (int i = 1; i < isochrone.getStations().size(); i++) {
+            assertThat(isochrone.costOf(i)).isBetween(isochrone.costOf(i - 1), 30);
+        }
+    }
+
+    @DisplayName("충분히 예열된 뒤에는 경로 결과 외에 역 수에 비례하는 메모리를 할당하지 않는다.")
+    @Test
+    void findPathWithoutAllocation() {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        DijkstraPathFinder pathFinder = new DijkstraPathFinder(graph);
+        Station source = stations[0][0];
+        Station target = stations[SIZE - 1][SIZE - 1];
+        for (int i = 0; i < WARM_UP_QUERIES; i++) {
+            pathFinder.findPath(source, target);
+        }
+
+        // when
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_QUERIES; i++) {
+            pathFinder.findPath(source, target);
+        }
+        long allocatedPerQuery = (threadMXBean.getThreadAllocatedBytes(threadId) - before) / MEASURED_QUERIES;
+
+        // then
+        assertThat(allocatedPerQuery).isLessThan(graph.size() * Integer.BYTES);
+    }
+}
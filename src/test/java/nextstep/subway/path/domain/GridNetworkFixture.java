@@ -0,0 +1,69 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.station.domain.Station;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * 가로, 세로 노선이 바둑판처럼 교차하는 노선도. i번째 가로 노선과 세로 노선이 각각 size 개의 역을 지난다.
+ */
+public class GridNetworkFixture {
+    private static final int DISTANCE = 10;
+    private static final int DURATION = 10;
+    private static final int VARIED_DURATION = 5;
+
+    private final Station[][] stations;
+    private final List<Line> lines;
+
+    private GridNetworkFixture(Station[][] stations, List<Line> lines) {
+        this.stations = stations;
+        this.lines = lines;
+    }
+
+    public static GridNetworkFixture create(int size) {
+        return create(size, (i, j) -> DISTANCE, (i, j) -> DISTANCE, DURATION);
+    }
+
+    // 구간마다 거리를 다르게 두어 비용이 같은 최단 경로가 많이 생기지 않게 한다
+    public static GridNetworkFixture createWithVariedDistances(int size) {
+        return create(size, (i, j) -> 1 + (i * 7 + j * 3) % 9, (i, j) -> 1 + (i * 5 + j * 2) % 9, VARIED_DURATION);
+    }
+
+    private static GridNetworkFixture create(int size, IntBinaryOperator rowDistance, IntBinaryOperator columnDistance, int duration) {
+        Station[][] stations = new Station[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                stations[row][column] = new Station(row + "-" + column + "역");
+            }
+        }
+
+        List<Line> lines = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Line rowLine = new Line("가로" + i + "호선", "green");
+            Line columnLine = new Line("세로" + i + "호선", "blue");
+            for (int j = 0; j + 1 < size; j++) {
+                rowLine.addSection(stations[i][j], stations[i][j + 1], rowDistance.applyAsInt(i, j), duration);
+                columnLine.addSection(stations[j][i], stations[j + 1][i], columnDistance.applyAsInt(i, j), duration);
+            }
+            lines.add(rowLine);
+            lines.add(columnLine);
+        }
+        return new GridNetworkFixture(stations, lines);
+    }
+
+    public Station[][] getStations() {
+        return stations;
+    }
+
+    public List<Line> getLines() {
+        return lines;
+    }
+
+    public CsrGraph graph(PathType type) {
+        return new CsrGraph(lines, type);
+    }
+}
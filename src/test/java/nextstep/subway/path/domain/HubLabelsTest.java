@@ -0,0 +1,63 @@
+package nextstep.subway.path.domain;
+
+import com.google.common.collect.Lists;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HubLabelsTest {
+    private Station 교대역;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 남부터미널역;
+    private Station 역삼역;
+    private List<Line> lines;
+
+    @BeforeEach
+    void setUp() {
+        교대역 = new Station("교대역");
+        강남역 = new Station("강남역");
+        양재역 = new Station("양재역");
+        남부터미널역 = new Station("남부터미널역");
+        역삼역 = new Station("역삼역");
+        Line 이호선 = new Line("2호선", "green");
+        이호선.addSection(교대역, 강남역, 10, 10);
+        이호선.addSection(강남역, 역삼역, 4, 3);
+        Line 신분당선 = new Line("신분당선", "red");
+        신분당선.addSection(강남역, 양재역, 10, 10);
+        Line 삼호선 = new Line("3호선", "orange");
+        삼호선.addSection(교대역, 남부터미널역, 2, 10);
+        삼호선.addSection(남부터미널역, 양재역, 3, 10);
+        lines = Lists.newArrayList(이호선, 신분당선, 삼호선);
+    }
+
+    @DisplayName("두 역의 라벨을 병합해 최단 거리를 구한다.")
+    @Test
+    void findDistance() {
+        // given
+        HubLabels labels = new HubLabels(new ContractionHierarchyBuilder(new CsrGraph(lines, PathType.DISTANCE)).build());
+
+        // then
+        assertThat(labels.findCost(양재역, 교대역)).isEqualTo(5);
+        assertThat(labels.findCost(역삼역, 남부터미널역)).isEqualTo(16);
+        assertThat(labels.findCost(강남역, 강남역)).isZero();
+    }
+
+    @DisplayName("두 역의 라벨을 병합해 최소 소요 시간을 구한다.")
+    @Test
+    void findDuration() {
+        // given
+        HubLabels labels = new HubLabels(new ContractionHierarchyBuilder(new CsrGraph(lines, PathType.DURATION)).build());
+
+        // then
+        assertThat(labels.findCost(역삼역, 교대역)).isEqualTo(13);
+        assertThat(labels.findCost(역삼역, 남부터미널역)).isEqualTo(23);
+    }
+}
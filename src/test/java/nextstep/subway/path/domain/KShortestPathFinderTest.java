@@ -0,0 +1,71 @@
+package nextstep.subway.path.domain;
+
+import com.google.common.collect.Lists;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KShortestPathFinderTest {
+    private Station 교대역;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 남부터미널역;
+    private Station 역삼역;
+    private CsrGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        교대역 = new Station("교대역");
+        강남역 = new Station("강남역");
+        양재역 = new Station("양재역");
+        남부터미널역 = new Station("남부터미널역");
+        역삼역 = new Station("역삼역");
+        Line 이호선 = new Line("2호선", "green");
+        이호선.addSection(교대역, 강남역, 10, 10);
+        이호선.addSection(강남역, 역삼역, 5, 5);
+        Line 신분당선 = new Line("신분당선", "red");
+        신분당선.addSection(강남역, 양재역, 10, 10);
+        Line 삼호선 = new Line("3호선", "orange");
+        삼호선.addSection(교대역, 남부터미널역, 2, 10);
+        삼호선.addSection(남부터미널역, 양재역, 3, 10);
+        graph = new CsrGraph(Lists.newArrayList(이호선, 신분당선, 삼호선), PathType.DISTANCE);
+    }
+
+    @DisplayName("루프가 없는 경로를 짧은 순서로 찾는다.")
+    @Test
+    void findPaths() {
+        // given
+        ShortestPathTree targetTree = new DijkstraPathFinder(graph).findTree(graph.indexOf(교대역));
+
+        // when
+        AlternativePaths alternativePaths = new KShortestPathFinder(graph, targetTree, 1_000).findPaths(양재역, 3);
+
+        // then
+        assertThat(alternativePaths.getPaths()).hasSize(2);
+        assertThat(alternativePaths.getPaths().get(0).getStations()).containsExactly(양재역, 남부터미널역, 교대역);
+        assertThat(alternativePaths.getPaths().get(1).getStations()).containsExactly(양재역, 강남역, 교대역);
+        assertThat(alternativePaths.getPaths().get(1).getTotalDistance()).isEqualTo(20);
+        assertThat(alternativePaths.getSpurSearchCount()).isPositive();
+        assertThat(alternativePaths.isTruncated()).isFalse();
+    }
+
+    @DisplayName("확정한 역이 한도를 넘으면 그때까지 찾은 경로만 돌려준다.")
+    @Test
+    void stopAtSettleLimit() {
+        // given
+        ShortestPathTree targetTree = new DijkstraPathFinder(graph).findTree(graph.indexOf(교대역));
+
+        // when
+        AlternativePaths alternativePaths = new KShortestPathFinder(graph, targetTree, 1).findPaths(역삼역, 3);
+
+        // then
+        assertThat(alternativePaths.getPaths()).hasSize(1);
+        assertThat(alternativePaths.getSettledCount()).isEqualTo(1);
+        assertThat(alternativePaths.isTruncated()).isTrue();
+    }
+}
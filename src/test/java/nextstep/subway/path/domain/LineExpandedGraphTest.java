@@ -0,0 +1,131 @@
+package nextstep.subway.path.domain;
+
+import com.google.common.collect.Lists;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LineExpandedGraphTest {
+    private Station 교대역;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 남부터미널역;
+    private LineExpandedGraph lineExpandedGraph;
+
+    /**
+     * 교대역    --- *2호선*(10) ---   강남역
+     * |                                |
+     * *3호선*(5)                   *신분당선*(10)
+     * |                                |
+     * 남부터미널역  --- *3호선*(20) ---   양재역
+     */
+    @BeforeEach
+    void setUp() {
+        교대역 = new Station("교대역");
+        강남역 = new Station("강남역");
+        양재역 = new Station("양재역");
+        남부터미널역 = new Station("남부터미널역");
+        Line 이호선 = new Line("2호선", "green");
+        이호선.addSection(교대역, 강남역, 10, 10);
+        Line 신분당선 = new Line("신분당선", "red");
+        신분당선.addSection(강남역, 양재역, 10, 10);
+        Line 삼호선 = new Line("3호선", "orange");
+        삼호선.addSection(교대역, 남부터미널역, 5, 5);
+        삼호선.addSection(남부터미널역, 양재역, 20, 20);
+        lineExpandedGraph = new LineExpandedGraph(new CsrGraph(Lists.newArrayList(이호선, 신분당선, 삼호선), PathType.DISTANCE));
+    }
+
+    @DisplayName("역마다 지나는 노선 수만큼 정점을 만든다.")
+    @Test
+    void nodeCount() {
+        assertThat(lineExpandedGraph.nodeCount()).isEqualTo(7);
+    }
+
+    @DisplayName("환승 비용이 없으면 최단 거리 경로를 찾고 환승 횟수를 센다.")
+    @Test
+    void findPathWithoutPenalty() {
+        // when
+        PathResult pathResult = lineExpandedGraph.findPath(교대역, 양재역, 0, LineExpandedGraph.UNLIMITED_TRANSFERS);
+
+        // then
+        assertThat(pathResult.getStations()).containsExactly(교대역, 강남역, 양재역);
+        assertThat(pathResult.getTotalDistance()).isEqualTo(20);
+        assertThat(pathResult.getTransferCount()).isEqualTo(1);
+    }
+
+    @DisplayName("환승 비용을 더하면 환승하지 않는 경로가 더 싸질 수 있다.")
+    @Test
+    void findPathWithPenalty() {
+        // when
+        PathResult pathResult = lineExpandedGraph.findPath(교대역, 양재역, 10, LineExpandedGraph.UNLIMITED_TRANSFERS);
+
+        // then
+        assertThat(pathResult.getStations()).containsExactly(교대역, 남부터미널역, 양재역);
+        assertThat(pathResult.getTotalDistance()).isEqualTo(25);
+        assertThat(pathResult.getTransferCount()).isZero();
+    }
+
+    @DisplayName("최대 환승 횟수를 넘는 경로는 찾지 않는다.")
+    @Test
+    void findPathWithMaxTransfers() {
+        // when
+        PathResult pathResult = lineExpandedGraph.findPath(교대역, 양재역, 0, 0);
+
+        // then
+        assertThat(pathResult.getStations()).containsExactly(교대역, 남부터미널역, 양재역);
+        assertThatThrownBy(() -> lineExpandedGraph.findPath(남부터미널역, 강남역, 0, 0)).isInstanceOf(PathNotFoundException.class);
+    }
+
+    @DisplayName("최대 환승 횟수가 노선 수보다 커도 제한이 없을 때와 같은 경로를 찾는다.")
+    @Test
+    void findPathWithLargeMaxTransfers() {
+        // when
+        PathResult pathResult = lineExpandedGraph.findPath(남부터미널역, 강남역, 0, Integer.MAX_VALUE);
+
+        // then
+        assertThat(pathResult.getStations()).containsExactly(남부터미널역, 교대역, 강남역);
+        assertThat(pathResult.getTransferCount()).isEqualTo(1);
+    }
+
+    @DisplayName("환승 비용이 매우 커도 비용이 넘치지 않고 환승해야 하는 경로를 찾는다.")
+    @Test
+    void findPathWithLargePenalty() {
+        // when
+        PathResult pathResult = lineExpandedGraph.findPath(남부터미널역, 강남역, Integer.MAX_VALUE, LineExpandedGraph.UNLIMITED_TRANSFERS);
+
+        // then
+        assertThat(pathResult.getStations()).containsExactly(남부터미널역, 교대역, 강남역);
+        assertThat(pathResult.getTotalDistance()).isEqualTo(15);
+    }
+
+    @DisplayName("이름을 바꾼 노선도 id 가 같으면 같은 노선으로 보고 환승으로 세지 않는다.")
+    @Test
+    void findPathOnRenamedLine() {
+        // given
+        Station 역삼역 = new Station("역삼역");
+        Station 선릉역 = new Station("선릉역");
+        Line 이호선 = new Line("2호선", "green");
+        ReflectionTestUtils.setField(이호선, "id", 1L);
+        이호선.addSection(강남역, 역삼역, 10, 10);
+        Line 이름을_바꾼_이호선 = new Line("순환선", "green");
+        ReflectionTestUtils.setField(이름을_바꾼_이호선, "id", 1L);
+        이름을_바꾼_이호선.addSection(역삼역, 선릉역, 10, 10);
+        LineExpandedGraph renamedGraph = new LineExpandedGraph(
+                new CsrGraph(Lists.newArrayList(이호선, 이름을_바꾼_이호선), PathType.DISTANCE));
+
+        // when
+        PathResult pathResult = renamedGraph.findPath(강남역, 선릉역, 100, LineExpandedGraph.UNLIMITED_TRANSFERS);
+
+        // then
+        assertThat(renamedGraph.nodeCount()).isEqualTo(3);
+        assertThat(pathResult.getStations()).containsExactly(강남역, 역삼역, 선릉역);
+        assertThat(pathResult.getTransferCount()).isZero();
+    }
+}
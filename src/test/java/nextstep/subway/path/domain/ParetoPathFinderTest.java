@@ -0,0 +1,62 @@
+package nextstep.subway.path.domain;
+
+import com.google.common.collect.Lists;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParetoPathFinderTest {
+    private Station 교대역;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 남부터미널역;
+    private Station 고속터미널역;
+    private CsrGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        교대역 = new Station("교대역");
+        강남역 = new Station("강남역");
+        양재역 = new Station("양재역");
+        남부터미널역 = new Station("남부터미널역");
+        고속터미널역 = new Station("고속터미널역");
+        Line 이호선 = new Line("2호선", "green");
+        이호선.addSection(교대역, 강남역, 10, 5);
+        Line 신분당선 = new Line("신분당선", "red");
+        신분당선.addSection(강남역, 양재역, 10, 5);
+        Line 삼호선 = new Line("3호선", "orange");
+        삼호선.addSection(고속터미널역, 교대역, 20, 20);
+        삼호선.addSection(교대역, 남부터미널역, 2, 10);
+        삼호선.addSection(남부터미널역, 양재역, 3, 10);
+        graph = new CsrGraph(Lists.newArrayList(이호선, 신분당선, 삼호선), PathType.DISTANCE);
+    }
+
+    @DisplayName("거리와 소요 시간 중 어느 하나라도 더 나은 경로를 거리가 짧은 순서로 모두 찾는다.")
+    @Test
+    void findPaths() {
+        // when
+        ParetoPaths paretoPaths = new ParetoPathFinder(graph).findPaths(교대역, 양재역);
+
+        // then
+        assertThat(paretoPaths.getPaths()).hasSize(2);
+        assertThat(paretoPaths.getPaths().get(0).getStations()).containsExactly(교대역, 남부터미널역, 양재역);
+        assertThat(paretoPaths.getPaths().get(0).getTotalDuration()).isEqualTo(20);
+        assertThat(paretoPaths.getPaths().get(1).getStations()).containsExactly(교대역, 강남역, 양재역);
+        assertThat(paretoPaths.getPaths().get(1).getTotalDuration()).isEqualTo(10);
+    }
+
+    @DisplayName("지배되는 라벨은 더 이상 확장하지 않는다.")
+    @Test
+    void pruneDominatedLabels() {
+        // when
+        ParetoPaths paretoPaths = new ParetoPathFinder(graph).findPaths(교대역, 양재역);
+
+        // then
+        assertThat(paretoPaths.getSettledLabelCount()).isLessThanOrEqualTo(graph.size() + paretoPaths.getPaths().size());
+    }
+}
@@ -0,0 +1,36 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.line.domain.Section;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PathEngineTest {
+    private static final int SIZE = 12;
+
+    @DisplayName("모든 엔진이 다익스트라와 같은 비용의 경로를 실제 구간으로 풀어서 돌려준다.")
+    @ParameterizedTest
+    @EnumSource(PathEngine.class)
+    void findPath(PathEngine engine) {
+        // given
+        CsrGraph graph = GridNetworkFixture.createWithVariedDistances(SIZE).graph(PathType.DISTANCE);
+        PathFinder pathFinder = engine.createPathFinder(graph, PathEngineSettings.defaults());
+        DijkstraPathFinder dijkstra = new DijkstraPathFinder(graph);
+
+        for (int source = 0; source < graph.size(); source += 7) {
+            for (int target = 0; target < graph.size(); target += 5) {
+                // when
+                PathResult expected = dijkstra.findPath(graph.getStation(source), graph.getStation(target));
+                PathResult actual = pathFinder.findPath(graph.getStation(source), graph.getStation(target));
+
+                // then
+                assertThat(actual.getTotalDistance()).isEqualTo(expected.getTotalDistance());
+                assertThat(actual.getSections().stream().mapToInt(Section::getDistance).sum()).isEqualTo(expected.getTotalDistance());
+                assertThat(actual.getStations()).startsWith(graph.getStation(source)).endsWith(graph.getStation(target));
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package nextstep.subway.path.domain;
+
+import com.google.common.collect.Lists;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.PathType;
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SectionClosureAnalyzerTest {
+    private Station 교대역;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 남부터미널역;
+    private Station 양재시민의숲역;
+    private SectionClosureAnalyzer analyzer;
+
+    /**
+     * 교대역    --- *2호선*(10) ---   강남역
+     * |                                |
+     * *3호선*(2)                   *신분당선*(10)
+     * |                                |
+     * 남부터미널역  --- *3호선*(3) ---   양재역 --- *신분당선*(5) --- 양재시민의숲역
+     */
+    @BeforeEach
+    void setUp() {
+        교대역 = new Station("교대역");
+        강남역 = new Station("강남역");
+        양재역 = new Station("양재역");
+        남부터미널역 = new Station("남부터미널역");
+        양재시민의숲역 = new Station("양재시민의숲역");
+        Line 이호선 = new Line("2호선", "green");
+        이호선.addSection(교대역, 강남역, 10, 10);
+        Line 신분당선 = new Line("신분당선", "red");
+        신분당선.addSection(강남역, 양재역, 10, 10);
+        신분당선.addSection(양재역, 양재시민의숲역, 5, 10);
+        Line 삼호선 = new Line("3호선", "orange");
+        삼호선.addSection(교대역, 남부터미널역, 2, 10);
+        삼호선.addSection(남부터미널역, 양재역, 3, 10);
+        analyzer = new SectionClosureAnalyzer(new CsrGraph(Lists.newArrayList(이호선, 신분당선, 삼호선), PathType.DISTANCE));
+    }
+
+    @DisplayName("모든 구간을 닫아 보고 갈 수 없게 되는 쌍이 많은 구간, 늘어난 비용의 합이 큰 구간 순서로 알려준다.")
+    @Test
+    void analyzeAllSections() {
+        // when
+        List<SectionClosureImpact> impacts = analyzer.analyze(new ArrayList<>(), 10);
+
+        // then
+        assertThat(impacts).extracting(it -> it.getSection().getDownStation())
+                .containsExactly(양재시민의숲역, 양재역, 남부터미널역, 양재역, 강남역);
+        assertThat(impacts).extracting(SectionClosureImpact::getDisconnectedPairCount).containsExactly(4, 0, 0, 0, 0);
+        assertThat(impacts).extracting(SectionClosureImpact::getTotalDetourCost).containsExactly(0L, 68L, 52L, 10L, 6L);
+    }
+
+    @DisplayName("구간을 닫았을 때 비용이 늘어나는 쌍을 늘어난 비용이 큰 순서로 보고할 개수만큼 알려준다.")
+    @Test
+    void detours() {
+        // when
+        SectionClosureImpact impact = impactOf(analyzer.analyze(new ArrayList<>(), 2), 남부터미널역, 양재역);
+
+        // then
+        assertThat(impact.getAffectedPairCount()).isEqualTo(4);
+        assertThat(impact.getDetours()).extracting(Detour::getDetourCost).containsExactly(19, 19);
+        assertThat(impact.getDetours()).extracting(Detour::getClosedCost).containsOnly(22, 27);
+    }
+
+    @DisplayName("닫은 구간을 지나지 않는 최단 경로 트리는 다시 계산하지 않는다.")
+    @Test
+    void reuseTreesNotUsingClosedSection() {
+        // when
+        List<SectionClosureImpact> impacts = analyzer.analyze(new ArrayList<>(), 10);
+
+        // then
+        assertThat(impactOf(impacts, 교대역, 강남역).getRecomputedTreeCount()).isEqualTo(3);
+        assertThat(impactOf(impacts, 양재역, 양재시민의숲역).getRecomputedTreeCount()).isEqualTo(5);
+    }
+
+    @DisplayName("노선에 등록되지 않은 구간은 분석할 수 없다.")
+    @Test
+    void analyzeUnknownSection() {
+        // when, then
+        assertThatThrownBy(() -> analyzer.analyze(Lists.newArrayList(1L), 10))
+                .hasMessage("노선에 등록되지 않은 구간입니다.");
+    }
+
+    @DisplayName("분석을 시작한 스레드가 인터럽트되면 fork-join 풀에서 실행 중인 분석도 멈춘다.")
+    @Test
+    void cancel() {
+        // given
+        Thread.currentThread().interrupt();
+
+        // when, then
+        try {
+            assertThatThrownBy(() -> analyzer.analyze(new ArrayList<>(), 10))
+                    .isInstanceOf(SearchCancelledException.class);
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    private SectionClosureImpact impactOf(List<SectionClosureImpact> impacts, Station upStation, Station downStation) {
+        return impacts.stream()
+                .filter(it -> it.getSection().getUpStation() == upStation && it.getSection().getDownStation() == downStation)
+                .findFirst()
+                .orElseThrow(IllegalArgumentException::new);
+    }
+}
@@ -3,10 +3,16 @@ package nextstep.subway.path.domain;
 import com.google.common.collect.Lists;
 import nextstep.subway.line.domain.Line;
 import nextstep.subway.line.domain.PathType;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.line.domain.SectionDelta;
 import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class SubwayGraphTest {
     @Test
@@ -26,4 +32,182 @@ public class SubwayGraphTest {
         // then
         assertThat(pathResult.getStations()).containsExactly(선릉역, 역삼역, 강남역);
     }
+
+    @DisplayName("엔진과 관계없이 같은 최단 경로를 찾는다.")
+    @ParameterizedTest
+    @EnumSource(PathEngine.class)
+    void findPathByEngine(PathEngine engine) {
+        // given
+        Station 교대역 = new Station("교대역");
+        Station 강남역 = new Station("강남역");
+        Station 양재역 = new Station("양재역");
+        Station 남부터미널역 = new Station("남부터미널역");
+        Line 이호선 = new Line("2호선", "green");
+        이호선.addSection(교대역, 강남역, 10, 10);
+        Line 신분당선 = new Line("신분당선", "red");
+        신분당선.addSection(강남역, 양재역, 10, 10);
+        Line 삼호선 = new Line("3호선", "orange");
+        삼호선.addSection(교대역, 남부터미널역, 2, 10);
+        삼호선.addSection(남부터미널역, 양재역, 3, 10);
+        SubwayGraph subwayGraph = new SubwayGraph(Lists.newArrayList(이호선, 신분당선, 삼호선), PathType.DISTANCE, engine);
+
+        // when
+        PathResult pathResult = subwayGraph.findPath(양재역, 교대역);
+
+        // then
+        assertThat(pathResult.getStations()).containsExactly(양재역, 남부터미널역, 교대역);
+        assertThat(pathResult.getTotalDistance()).isEqualTo(5);
+        assertThat(pathResult.getTotalDuration()).isEqualTo(20);
+    }
+
+    @DisplayName("연결되지 않은 두 역 사이의 경로는 엔진과 관계없이 탐색 없이 찾을 수 없다고 응답한다.")
+    @ParameterizedTest
+    @EnumSource(PathEngine.class)
+    void findPathBetweenDisconnectedStations(PathEngine engine) {
+        // given
+        Station 교대역 = new Station("교대역");
+        Station 강남역 = new Station("강남역");
+        Station 판교역 = new Station("판교역");
+        Station 정자역 = new Station("정자역");
+        Line 이호선 = new Line("2호선", "green");
+        이호선.addSection(교대역, 강남역, 10, 10);
+        Line 신분당선 = new Line("신분당선", "red");
+        신분당선.addSection(판교역, 정자역, 10, 10);
+        SubwayGraph subwayGraph = new SubwayGraph(Lists.newArrayList(이호선, 신분당선), PathType.DISTANCE, engine);
+
+        // when, then
+        assertThatThrownBy(() -> subwayGraph.findPath(교대역, 정자역)).isInstanceOf(PathNotFoundException.class);
+        assertThatThrownBy(() -> subwayGraph.findPaths(교대역, Lists.newArrayList(강남역, 판교역)))
+                .isInstanceOf(PathNotFoundException.class);
+    }
+
+    @DisplayName("계수에 따라 거리와 소요 시간을 섞은 비용이 가장 작은 경로를 같은 그래프에서 찾는다.")
+    @Test
+    void findBlendedPath() {
+        // given
+        Station 교대역 = new Station("교대역");
+        Station 강남역 = new Station("강남역");
+        Station 양재역 = new Station("양재역");
+        Station 남부터미널역 = new Station("남부터미널역");
+        Line 이호선 = new Line("2호선", "green");
+        이호선.addSection(교대역, 강남역, 10, 2);
+        이호선.addSection(강남역, 양재역, 10, 2);
+        Line 삼호선 = new Line("3호선", "orange");
+        삼호선.addSection(교대역, 남부터미널역, 3, 20);
+        삼호선.addSection(남부터미널역, 양재역, 3, 20);
+        SubwayGraph subwayGraph = new SubwayGraph(Lists.newArrayList(이호선, 삼호선), PathType.DISTANCE, PathEngine.CSR);
+
+        // when
+        PathResult byDistance = subwayGraph.findPath(교대역, 양재역, new BlendedCost(1, 0));
+        PathResult blended = subwayGraph.findPath(교대역, 양재역, new BlendedCost(1, 1));
+
+        // then
+        assertThat(byDistance.getStations()).containsExactly(교대역, 남부터미널역, 양재역);
+        assertThat(blended.getStations()).containsExactly(교대역, 강남역, 양재역);
+        assertThat(blended.getTotalDistance()).isEqualTo(20);
+        assertThat(blended.getTotalDuration()).isEqualTo(4);
+        assertThatThrownBy(() -> new BlendedCost(0, 0)).isInstanceOf(RuntimeException.class);
+    }
+
+    @DisplayName("경유역을 차례로 지나는 경로를 하나로 이어 찾는다.")
+    @ParameterizedTest
+    @EnumSource(PathEngine.class)
+    void findPathVia(PathEngine engine) {
+        // given
+        Station 강남역 = new Station("강남역");
+        Station 역삼역 = new Station("역삼역");
+        Station 선릉역 = new Station("선릉역");
+        Line line = new Line("2호선", "green");
+        line.addSection(강남역, 역삼역, 10, 5);
+        line.addSection(역삼역, 선릉역, 10, 5);
+        SubwayGraph subwayGraph = new SubwayGraph(Lists.newArrayList(line), PathType.DISTANCE, engine);
+
+        // when
+        PathResult pathResult = subwayGraph.findPathVia(Lists.newArrayList(강남역, 선릉역, 강남역, 역삼역));
+
+        // then
+        assertThat(pathResult.getStations()).containsExactly(강남역, 역삼역, 선릉역, 역삼역, 강남역, 역삼역);
+        assertThat(pathResult.getSections()).hasSize(5);
+        assertThat(pathResult.getTotalDistance()).isEqualTo(50);
+        assertThat(pathResult.getTotalDuration()).isEqualTo(25);
+    }
+
+    @DisplayName("한 역에서 모든 역까지의 최단 경로 트리를 찾고, 같은 출발역은 다시 탐색하지 않는다.")
+    @Test
+    void findTree() {
+        // given
+        Station 교대역 = new Station("교대역");
+        Station 강남역 = new Station("강남역");
+        Station 양재역 = new Station("양재역");
+        Station 남부터미널역 = new Station("남부터미널역");
+        Line 이호선 = new Line("2호선", "green");
+        이호선.addSection(교대역, 강남역, 10, 10);
+        Line 신분당선 = new Line("신분당선", "red");
+        신분당선.addSection(강남역, 양재역, 10, 10);
+        Line 삼호선 = new Line("3호선", "orange");
+        삼호선.addSection(교대역, 남부터미널역, 2, 10);
+        삼호선.addSection(남부터미널역, 양재역, 3, 10);
+        SubwayGraph subwayGraph = new SubwayGraph(Lists.newArrayList(이호선, 신분당선, 삼호선), PathType.DISTANCE, PathEngine.CSR);
+
+        // when
+        PathTree pathTree = subwayGraph.findTree(양재역);
+
+        // then
+        assertThat(pathTree.getReachableStations()).containsExactlyInAnyOrder(교대역, 강남역, 양재역, 남부터미널역);
+        assertThat(pathTree.costOf(양재역)).isZero();
+        assertThat(pathTree.costOf(교대역)).isEqualTo(5);
+        assertThat(pathTree.costOf(강남역)).isEqualTo(10);
+        assertThat(pathTree.previousStationOf(교대역)).isEqualTo(남부터미널역);
+        assertThat(pathTree.previousStationOf(양재역)).isNull();
+        assertThat(subwayGraph.findTree(양재역)).isSameAs(pathTree);
+    }
+
+    @DisplayName("비용이 그대로인 변경분이면 전처리한 CH 와 최단 경로 트리를 새 그래프로 옮긴다.")
+    @Test
+    void patchWithSameCosts() {
+        // given
+        Station 교대역 = new Station("교대역");
+        Station 강남역 = new Station("강남역");
+        Station 양재역 = new Station("양재역");
+        Line 신분당선 = new Line("신분당선", "red");
+        CsrGraph graph = new CsrGraph(Lists.newArrayList(), PathType.DISTANCE)
+                .apply(Lists.newArrayList(SectionDelta.added(new Section(1L, 신분당선, 교대역, 강남역, 10, 10)),
+                        SectionDelta.added(new Section(2L, 신분당선, 강남역, 양재역, 10, 10))));
+        SubwayGraph subwayGraph = new SubwayGraph(graph, PathEngine.CH, PathEngineSettings.defaults());
+        PathTree pathTree = subwayGraph.findTree(교대역);
+
+        // when
+        CsrGraph durationChanged = graph.apply(Lists.newArrayList(SectionDelta.weightChanged(new Section(2L, 신분당선, 강남역, 양재역, 10, 30))));
+        SubwayGraph patched = subwayGraph.patch(durationChanged, PathEngine.CH, PathEngineSettings.defaults());
+
+        // then
+        assertThat(patched.findPath(교대역, 양재역).getTotalDuration()).isEqualTo(40);
+        assertThat(patched.findTree(교대역)).isSameAs(pathTree);
+    }
+
+    @DisplayName("비용이 바뀐 변경분이면 CH 는 다시 전처리해야 하고, ALT 는 비용이 늘기만 했다면 랜드마크를 그대로 쓴다.")
+    @Test
+    void patchWithChangedCosts() {
+        // given
+        Station 교대역 = new Station("교대역");
+        Station 강남역 = new Station("강남역");
+        Station 양재역 = new Station("양재역");
+        Line 신분당선 = new Line("신분당선", "red");
+        CsrGraph graph = new CsrGraph(Lists.newArrayList(), PathType.DISTANCE)
+                .apply(Lists.newArrayList(SectionDelta.added(new Section(1L, 신분당선, 교대역, 강남역, 10, 10)),
+                        SectionDelta.added(new Section(2L, 신분당선, 강남역, 양재역, 10, 10)),
+                        SectionDelta.added(new Section(3L, 신분당선, 교대역, 양재역, 30, 30))));
+        SubwayGraph contracted = new SubwayGraph(graph, PathEngine.CH, PathEngineSettings.defaults());
+        SubwayGraph alt = new SubwayGraph(graph, PathEngine.ALT, PathEngineSettings.defaults());
+
+        // when
+        CsrGraph increased = graph.apply(Lists.newArrayList(SectionDelta.weightChanged(new Section(2L, 신분당선, 강남역, 양재역, 25, 10))));
+        CsrGraph decreased = increased.apply(Lists.newArrayList(SectionDelta.weightChanged(new Section(2L, 신분당선, 강남역, 양재역, 5, 10))));
+
+        // then
+        assertThat(contracted.patch(increased, PathEngine.CH, PathEngineSettings.defaults())).isNull();
+        SubwayGraph patched = alt.patch(increased, PathEngine.ALT, PathEngineSettings.defaults());
+        assertThat(patched.findPath(교대역, 양재역).getStations()).containsExactly(교대역, 양재역);
+        assertThat(patched.patch(decreased, PathEngine.ALT, PathEngineSettings.defaults())).isNull();
+    }
 }
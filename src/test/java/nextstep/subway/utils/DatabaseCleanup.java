@@ -1,7 +1,9 @@
 package nextstep.subway.utils;
 
 import com.google.common.base.CaseFormat;
+import nextstep.subway.common.NetworkVersion;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +20,9 @@ public class DatabaseCleanup implements InitializingBean {
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Autowired
+    private NetworkVersion networkVersion;
+
     private List<String> tableNames;
 
     @Override
@@ -39,5 +44,7 @@ public class DatabaseCleanup implements InitializingBean {
         }
 
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+        // 테이블을 직접 비우면 구간 변경분이 발행되지 않으므로 경로 그래프를 다시 만들도록 버전을 올린다
+        networkVersion.increase();
     }
 }
\ No newline at end of file